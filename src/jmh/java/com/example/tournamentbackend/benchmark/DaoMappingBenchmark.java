@@ -0,0 +1,48 @@
+package com.example.tournamentbackend.benchmark;
+
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Row mapping cost of mapRowToMatch / mapResultSetToTeam, measured through the public find methods
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoMappingBenchmark {
+
+    @Param({"20", "380", "5000"})
+    private int matches;
+
+    private Fixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        fixtures = new Fixtures(matches);
+    }
+
+    @Benchmark
+    public List<Match> mapMatches() {
+        return fixtures.matchDao.findAll();
+    }
+
+    @Benchmark
+    public List<Team> mapTeams() {
+        return fixtures.teamDao.findAll();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.tournamentbackend.benchmark;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.cache.TeamCache;
+import com.example.tournamentbackend.dao.impl.MatchDaoImpl;
+import com.example.tournamentbackend.dao.impl.MatchEventDaoImpl;
+import com.example.tournamentbackend.dao.impl.StandingsSnapshotDaoImpl;
+import com.example.tournamentbackend.dao.impl.TeamDaoImpl;
+import com.example.tournamentbackend.dao.impl.TournamentDaoImpl;
+import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.service.impl.BracketServiceImpl;
+import com.example.tournamentbackend.service.impl.LiveServiceImpl;
+import com.example.tournamentbackend.service.impl.LogoServiceImpl;
+import com.example.tournamentbackend.service.impl.MatchEventServiceImpl;
+import com.example.tournamentbackend.service.impl.MatchServiceImpl;
+import com.example.tournamentbackend.service.impl.StandingsServiceImpl;
+import com.example.tournamentbackend.service.impl.ScheduleServiceImpl;
+import com.example.tournamentbackend.service.impl.TeamFormServiceImpl;
+import com.example.tournamentbackend.service.impl.TeamServiceImpl;
+import com.example.tournamentbackend.stats.TeamStatsWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Wires the real DAOs and services onto a StubDataSource seeded with a league of the given size
+final class Fixtures {
+
+    private static final String[] TEAM_COLUMNS = {"id", "name", "played", "wins", "draws", "losses",
+            "goal_difference", "goals_scored", "goals_conceded", "last_5_games", "points", "logo_path", "version"};
+    private static final String[] MATCH_COLUMNS = {"id", "tournament_id", "home_team_id", "away_team_id",
+            "home_team_score", "away_team_score", "match_date", "status", "round", "created_at", "updated_at",
+            "home_team_name", "away_team_name", "bracket_slot", "version"};
+    private static final String[] EVENT_COLUMNS = {"id", "match_id", "tournament_id", "type", "home_team_id",
+            "away_team_id", "home_team_score", "away_team_score", "created_at"};
+    private static final int TEAMS = 20;
+
+    final TeamDaoImpl teamDao;
+    final MatchDaoImpl matchDao;
+    final TeamServiceImpl teamService;
+    final MatchServiceImpl matchService;
+
+    Fixtures(int matches) {
+        StubDataSource.Rows teamRows = new StubDataSource.Rows(TEAM_COLUMNS, teamRows());
+        StubDataSource.Rows matchRows = new StubDataSource.Rows(MATCH_COLUMNS, matchRows(matches));
+        StubDataSource.Rows eventRows = new StubDataSource.Rows(EVENT_COLUMNS, List.<Object[]>of(
+                new Object[]{1L, 1L, 1L, "corrected", 1, 8, 2, 1, LocalDateTime.of(2026, 7, 1, 12, 0)}));
+        DataSource dataSource = StubDataSource.create(sql -> sql.contains("match_events") ? eventRows
+                : sql.contains("matches") ? matchRows : teamRows);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        teamDao = new TeamDaoImpl(dataSource, new TeamCache(1024, 60, new SimpleMeterRegistry()));
+        matchDao = new MatchDaoImpl(dataSource);
+        MatchEventDaoImpl matchEventDao = new MatchEventDaoImpl(dataSource);
+        StandingsServiceImpl standingsService = new StandingsServiceImpl(matchDao, teamDao,
+                new TournamentDaoImpl(dataSource), matchEventDao, new StandingsSnapshotDaoImpl(dataSource),
+                transactionTemplate, new ObjectMapper(), 100, "head-to-head,goal-difference,goals-scored");
+        TeamStatsWriteBehind statsWriteBehind = new TeamStatsWriteBehind(teamDao, new ResourceVersions(),
+                new SimpleMeterRegistry(), false, 1000);
+        TeamFormServiceImpl teamFormService = new TeamFormServiceImpl(matchDao, teamDao);
+        teamService = new TeamServiceImpl(teamDao, new TournamentDaoImpl(dataSource), matchDao, matchEventDao,
+                standingsService, new BracketServiceImpl(matchDao, new TournamentDaoImpl(dataSource)),
+                new LogoServiceImpl(teamDao, "uploads", 1, 1), statsWriteBehind, teamFormService);
+        LiveServiceImpl liveService = new LiveServiceImpl(new TournamentDaoImpl(dataSource), new ObjectMapper(),
+                250, 15, 256, 64, 1, 1_800_000, 5_000);
+        BracketServiceImpl bracketService = new BracketServiceImpl(matchDao, new TournamentDaoImpl(dataSource));
+        MatchEventServiceImpl matchEventService = new MatchEventServiceImpl(matchEventDao,
+                new TournamentDaoImpl(dataSource), teamService, standingsService, teamFormService);
+        matchService = new MatchServiceImpl(matchDao, teamDao, new TournamentDaoImpl(dataSource), matchEventService,
+                liveService, bracketService, new ScheduleServiceImpl(matchDao, new TournamentDaoImpl(dataSource), 120));
+    }
+
+    static List<MatchDTO> matchDTOs(int count) {
+        LocalDateTime kickOff = LocalDateTime.of(2026, 8, 15, 15, 0);
+        List<MatchDTO> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int home = i % TEAMS + 1;
+            int away = (i + 7) % TEAMS + 1;
+            matches.add(new MatchDTO((long) i + 1, 1L, home, away, i % 4, i % 3,
+                    kickOff.plusDays(i / 10), "completed", "Matchday " + (i / 10 + 1),
+                    "Team " + home, "Team " + away, null));
+        }
+        return matches;
+    }
+
+    private static List<Object[]> teamRows() {
+        List<Object[]> rows = new ArrayList<>(TEAMS);
+        for (int id = 1; id <= TEAMS; id++) {
+            rows.add(new Object[]{id, "Team " + id, 38, 20, 10, 8, 25, 70, 45, "WWDLW", 70, id + "_logo.png", 0L});
+        }
+        return rows;
+    }
+
+    private static List<Object[]> matchRows(int count) {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 7, 1, 12, 0);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (MatchDTO match : matchDTOs(count)) {
+            rows.add(new Object[]{match.getId(), match.getTournamentId(), match.getHomeTeamId(), match.getAwayTeamId(),
+                    match.getHomeTeamScore(), match.getAwayTeamScore(), match.getMatchDate(), match.getStatus(),
+                    match.getRound(), createdAt, null, match.getHomeTeamName(), match.getAwayTeamName(),
+                    match.getBracketSlot(), 0L});
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.tournamentbackend.benchmark;
+
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
+import com.example.tournamentbackend.fixtures.FixtureFormat;
+import com.example.tournamentbackend.fixtures.FixtureGenerator;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.schedule.TournamentSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Building a season's schedule and checking every match in it; 101 teams play 10100 matches
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleBenchmark {
+
+    @Param({"20", "101"})
+    private int teams;
+
+    private List<Match> season;
+
+    @Setup
+    public void setUp() {
+        List<Integer> teamIds = new ArrayList<>(teams);
+        for (int id = 1; id <= teams; id++) {
+            teamIds.add(id);
+        }
+        season = new ArrayList<>();
+        FixtureGenerator.generate(1L, teamIds, FixtureFormat.DOUBLE_ROUND_ROBIN,
+                LocalDateTime.of(2026, 8, 15, 15, 0), 7, match -> {
+                    match.setId((long) season.size() + 1);
+                    season.add(match);
+                });
+    }
+
+    @Benchmark
+    public List<ScheduleConflictDTO> validateSeason() {
+        return new TournamentSchedule(season, 120).conflicts();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.tournamentbackend.benchmark;
+
+import com.example.tournamentbackend.dto.MatchDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// convertToDTO / enrichMatchDTO and updateTeamStats on top of the stub database
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceConversionBenchmark {
+
+    @Param({"20", "380", "5000"})
+    private int matches;
+
+    private Fixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        fixtures = new Fixtures(matches);
+    }
+
+    @Benchmark
+    public List<MatchDTO> getAllMatches() {
+        return fixtures.matchService.getAllMatches();
+    }
+
+    @Benchmark
+    public MatchDTO recordMatchResult() {
+        return fixtures.matchService.recordMatchResult(1L, 2, 1);
+    }
+
+    @Benchmark
+    public void updateTeamStats() {
+        fixtures.teamService.updateTeamStats(1, 2, 1, "W");
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.tournamentbackend.benchmark;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// In-memory stand-in for PostgreSQL: every query answers with the rows the benchmark configured
+// for it, so DAO and service code runs unchanged without a database or network hop
+final class StubDataSource {
+
+    private StubDataSource() {
+    }
+
+    static final class Rows {
+        private final Map<String, Integer> columns = new HashMap<>();
+        private final List<Object[]> values;
+
+        Rows(String[] columnNames, List<Object[]> values) {
+            for (int i = 0; i < columnNames.length; i++) {
+                columns.put(columnNames[i], i);
+            }
+            this.values = values;
+        }
+    }
+
+    static DataSource create(Function<String, Rows> rowsForSql) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("getConnection")) {
+                return connection(rowsForSql);
+            }
+            return defaultValue(method.getReturnType());
+        };
+        return proxy(DataSource.class, handler);
+    }
+
+    private static Connection connection(Function<String, Rows> rowsForSql) {
+        boolean[] autoCommit = {true};
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement(rowsForSql.apply((String) args[0]));
+                case "createStatement":
+                    return statement(null);
+                case "getAutoCommit":
+                    return autoCommit[0];
+                case "setAutoCommit":
+                    autoCommit[0] = (Boolean) args[0];
+                    return null;
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        };
+        return proxy(Connection.class, handler);
+    }
+
+    private static PreparedStatement statement(Rows preparedRows) {
+        int[] batchSize = {0};
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "executeQuery":
+                    return resultSet(preparedRows);
+                case "executeUpdate":
+                    return 1;
+                case "addBatch":
+                    batchSize[0]++;
+                    return null;
+                case "executeBatch":
+                    int[] counts = new int[batchSize[0]];
+                    Arrays.fill(counts, 1);
+                    batchSize[0] = 0;
+                    return counts;
+                case "getGeneratedKeys":
+                    return resultSet(preparedRows);
+                default:
+                    return defaultValue(method.getReturnType());
+            }
+        };
+        return proxy(PreparedStatement.class, handler);
+    }
+
+    private static ResultSet resultSet(Rows rows) {
+        int[] cursor = {-1};
+        boolean[] wasNull = {false};
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("next")) {
+                return rows != null && ++cursor[0] < rows.values.size();
+            }
+            if (name.equals("wasNull")) {
+                return wasNull[0];
+            }
+            if (name.equals("findColumn")) {
+                return rows.columns.get((String) args[0]) + 1;
+            }
+            boolean typedGetObject = name.equals("getObject") && args != null && args.length == 2;
+            if (!name.startsWith("get") || args == null || (args.length != 1 && !typedGetObject)) {
+                return defaultValue(method.getReturnType());
+            }
+
+            Object[] row = rows.values.get(cursor[0]);
+            Object value = args[0] instanceof String
+                    ? row[rows.columns.get((String) args[0])]
+                    : row[(Integer) args[0] - 1];
+            wasNull[0] = value == null;
+
+            switch (name) {
+                case "getInt":
+                    return value == null ? 0 : ((Number) value).intValue();
+                case "getLong":
+                    return value == null ? 0L : ((Number) value).longValue();
+                case "getString":
+                    return value == null ? null : value.toString();
+                case "getTimestamp":
+                    return value == null ? null : Timestamp.valueOf((LocalDateTime) value);
+                case "getDate":
+                    return value == null ? null : Date.valueOf((LocalDate) value);
+                default:
+                    return value;
+            }
+        };
+        return proxy(ResultSet.class, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.tournamentbackend.bracket;
+
+import com.example.tournamentbackend.dto.BracketDTO;
+import com.example.tournamentbackend.dto.BracketNodeDTO;
+import com.example.tournamentbackend.fixtures.FixtureGenerator;
+import com.example.tournamentbackend.model.Match;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// Knockout bracket of one tournament as a heap of slots: slot 1 is the final and slot n is fed by
+// the winners of slots 2n (home side) and 2n + 1 (away side). The DTO tree is kept built; a change
+// to one match rebuilds only the nodes on its path to the final and reuses every other subtree.
+public class Bracket {
+
+    private final Long tournamentId;
+    private final int size;
+    private final Match[] matches;
+    private final BracketNodeDTO[] nodes;
+    private volatile BracketDTO snapshot;
+
+    public Bracket(Long tournamentId, Collection<Match> bracketMatches) {
+        int maxSlot = 1;
+        for (Match match : bracketMatches) {
+            maxSlot = Math.max(maxSlot, match.getBracketSlot());
+        }
+        this.tournamentId = tournamentId;
+        this.size = Integer.highestOneBit(maxSlot) << 1;
+        this.matches = new Match[size];
+        this.nodes = new BracketNodeDTO[size];
+
+        for (Match match : bracketMatches) {
+            matches[match.getBracketSlot()] = match;
+        }
+        for (int slot = size - 1; slot >= 1; slot--) {
+            nodes[slot] = buildNode(slot);
+        }
+        publish();
+    }
+
+    public BracketDTO getBracket() {
+        return snapshot;
+    }
+
+    public synchronized void apply(Match match) {
+        Integer slot = match.getBracketSlot();
+        if (slot == null || slot < 1 || slot >= size) {
+            return;
+        }
+        matches[slot] = match;
+        for (int current = slot; current >= 1; current >>= 1) {
+            nodes[current] = buildNode(current);
+        }
+        publish();
+    }
+
+    // Byes advance their team; drawn or unplayed matches have no winner yet
+    public static Integer winnerOf(Match match) {
+        if (match == null) {
+            return null;
+        }
+        if (FixtureGenerator.BYE_STATUS.equalsIgnoreCase(match.getStatus())) {
+            return match.getHomeTeamId();
+        }
+        if (!"completed".equalsIgnoreCase(match.getStatus())
+                || match.getHomeTeamScore() == null || match.getAwayTeamScore() == null) {
+            return null;
+        }
+        int home = match.getHomeTeamScore();
+        int away = match.getAwayTeamScore();
+        if (home == away) {
+            return null;
+        }
+        return home > away ? match.getHomeTeamId() : match.getAwayTeamId();
+    }
+
+    public static String winnerName(Match match) {
+        Integer winner = winnerOf(match);
+        if (winner == null) {
+            return null;
+        }
+        return winner == match.getHomeTeamId() ? match.getHomeTeamName() : match.getAwayTeamName();
+    }
+
+    public static String roundName(int slot) {
+        return FixtureGenerator.roundName(Integer.highestOneBit(slot) << 1);
+    }
+
+    private BracketNodeDTO buildNode(int slot) {
+        boolean firstRound = slot >= size / 2;
+        List<BracketNodeDTO> children = firstRound
+                ? Collections.emptyList()
+                : List.of(nodes[slot * 2], nodes[slot * 2 + 1]);
+
+        Match match = matches[slot];
+        if (match == null) {
+            // Not scheduled yet: show whoever has already come through from below
+            Match homeFeeder = firstRound ? null : matches[slot * 2];
+            Match awayFeeder = firstRound ? null : matches[slot * 2 + 1];
+            return new BracketNodeDTO(slot, roundName(slot), null,
+                    winnerOf(homeFeeder), winnerName(homeFeeder),
+                    winnerOf(awayFeeder), winnerName(awayFeeder),
+                    null, null, null, null, null, children);
+        }
+
+        boolean bye = FixtureGenerator.BYE_STATUS.equalsIgnoreCase(match.getStatus());
+        return new BracketNodeDTO(slot, roundName(slot), match.getId(),
+                match.getHomeTeamId(), match.getHomeTeamName(),
+                bye ? null : match.getAwayTeamId(), bye ? null : match.getAwayTeamName(),
+                match.getHomeTeamScore(), match.getAwayTeamScore(), match.getMatchDate(), match.getStatus(),
+                winnerOf(match), children);
+    }
+
+    private void publish() {
+        snapshot = new BracketDTO(tournamentId, Integer.numberOfTrailingZeros(size), nodes[1]);
+    }
+}
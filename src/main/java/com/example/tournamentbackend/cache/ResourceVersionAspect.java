@@ -0,0 +1,71 @@
+package com.example.tournamentbackend.cache;
+
+import com.example.tournamentbackend.cache.ResourceVersions.Resource;
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.MatchEventDao;
+import com.example.tournamentbackend.dao.StandingsSnapshotDao;
+import com.example.tournamentbackend.dao.TeamDao;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Every DAO method that isn't a find/count/stream/lock is treated as a write
+@Aspect
+@Component
+public class ResourceVersionAspect {
+
+    private final ResourceVersions resourceVersions;
+
+    @Autowired
+    public ResourceVersionAspect(ResourceVersions resourceVersions) {
+        this.resourceVersions = resourceVersions;
+    }
+
+    @Around("within(com.example.tournamentbackend.dao.impl..*) && execution(public * *(..))")
+    public Object bumpOnWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        if (method.startsWith("find") || method.startsWith("count") || method.startsWith("stream")
+                || method.startsWith("lock")) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // Bumped now, and again once the transaction commits, so a GET that read the
+            // pre-commit state can never keep its tag after the change becomes visible
+            Runnable bump = bumpFor(joinPoint.getTarget(), method);
+            bump.run();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        bump.run();
+                    }
+                });
+            }
+        }
+    }
+
+    // Deletes cascade through foreign keys, so they invalidate everything. Snapshots only cache
+    // what the event log already says, so writing one changes nothing a client can see.
+    private Runnable bumpFor(Object dao, String method) {
+        if (dao instanceof StandingsSnapshotDao) {
+            return () -> { };
+        }
+        if (method.startsWith("delete")) {
+            return resourceVersions::bumpAll;
+        }
+        if (dao instanceof TeamDao) {
+            return () -> resourceVersions.bump(Resource.TEAMS);
+        }
+        if (dao instanceof MatchDao || dao instanceof MatchEventDao) {
+            return () -> resourceVersions.bump(Resource.MATCHES);
+        }
+        return () -> resourceVersions.bump(Resource.TOURNAMENTS);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.tournamentbackend.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// In-memory version counter per resource type, bumped on every DAO write. Read endpoints derive
+// their ETag from it, so an unchanged resource can be answered with 304 without a query.
+// The epoch makes sure tags handed out before a restart never match again.
+@Component
+public class ResourceVersions {
+
+    public enum Resource {
+        TEAMS,
+        MATCHES,
+        TOURNAMENTS
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLongArray versions = new AtomicLongArray(Resource.values().length);
+    private final AtomicLongArray bumpedAt = new AtomicLongArray(Resource.values().length);
+    private final long settleNanos;
+
+    public ResourceVersions() {
+        this("", 0, 0);
+    }
+
+    // With a read replica a GET can read rows older than the version it would be tagged with, and a
+    // client holding that tag would get 304s for the old body until the next write. The replica is
+    // only used while its lag, checked every lag-check-ms, is under max-lag-ms, so after that long a
+    // replica read has caught up with a bump; until then the resource is unsettled and goes untagged.
+    @Autowired
+    public ResourceVersions(@Value("${db.replica.url:}") String replicaUrl,
+                            @Value("${db.replica.max-lag-ms:1000}") long maxLagMs,
+                            @Value("${db.replica.lag-check-ms:1000}") long lagCheckMs) {
+        this.settleNanos = replicaUrl.isBlank() ? 0 : (maxLagMs + lagCheckMs) * 1_000_000L;
+        long settled = System.nanoTime() - settleNanos;
+        for (int i = 0; i < bumpedAt.length(); i++) {
+            bumpedAt.set(i, settled);
+        }
+    }
+
+    public void bump(Resource resource) {
+        versions.incrementAndGet(resource.ordinal());
+        bumpedAt.set(resource.ordinal(), System.nanoTime());
+    }
+
+    public void bumpAll() {
+        for (Resource resource : Resource.values()) {
+            bump(resource);
+        }
+    }
+
+    // Whether every read of these resources, wherever it is served from, is at least as new as the
+    // current versions
+    public boolean isSettled(Resource... resources) {
+        if (settleNanos == 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        for (Resource resource : resources) {
+            if (now - bumpedAt.get(resource.ordinal()) < settleNanos) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long get(Resource resource) {
+        return versions.get(resource.ordinal());
+    }
+
+    public String etag(Resource... resources) {
+        StringBuilder tag = new StringBuilder("W/\"").append(epoch);
+        for (Resource resource : resources) {
+            tag.append('-').append(get(resource));
+        }
+        return tag.append('"').toString();
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.tournamentbackend.cache;
+
+import com.example.tournamentbackend.model.Team;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Size- and TTL-bounded LRU cache of teams keyed by primitive id. Entries are split across
+// independently locked segments; each segment keeps an open-addressing index into a fixed
+// node pool so lookups never box the key.
+@Component
+public class TeamCache {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final long NO_STAMP = -1;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private final long ttlNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Autowired
+    public TeamCache(@Value("${cache.teams.max-size:1024}") int maxSize,
+                     @Value("${cache.teams.ttl-seconds:60}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        int perSegment = Math.max(1, (maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+
+        FunctionCounter.builder("team.cache.hits", hits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("team.cache.misses", misses, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("team.cache.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("team.cache.expirations", expirations, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("team.cache.size", this, TeamCache::size).register(meterRegistry);
+    }
+
+    public Team get(int id) {
+        Team team = segmentFor(id).get(id, System.nanoTime());
+        if (team == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(team);
+    }
+
+    public void put(Team team) {
+        segmentFor(team.getId()).put(team.getId(), copy(team), System.nanoTime() + ttlNanos, NO_STAMP);
+    }
+
+    // Taken before reading a team from the database; put(team, stamp) then drops the row if anything
+    // in its segment was invalidated in between, since the row read may be older than that write
+    public long stamp(int id) {
+        return segmentFor(id).generation();
+    }
+
+    public void put(Team team, long stamp) {
+        segmentFor(team.getId()).put(team.getId(), copy(team), System.nanoTime() + ttlNanos, stamp);
+    }
+
+    public void invalidate(int id) {
+        segmentFor(id).remove(id);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(int id) {
+        return segments[(mix(id) >>> 28) & (SEGMENT_COUNT - 1)];
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Callers may mutate the Team they get back, so the cache never shares instances
+    private static Team copy(Team team) {
+        return new Team(
+                team.getId(),
+                team.getName(),
+                team.getPlayed(),
+                team.getWins(),
+                team.getDraws(),
+                team.getLosses(),
+                team.getGoalDifference(),
+                team.getGoalsScored(),
+                team.getGoalsConceded(),
+                team.getLast5Games(),
+                team.getPoints(),
+                team.getLogoPath(),
+                team.getVersion()
+        );
+    }
+
+    private final class Segment {
+        private static final int NONE = -1;
+
+        private final int capacity;
+        private final int mask;
+        // slots hold node index + 1, 0 marks an empty slot
+        private final int[] slots;
+        private final int[] keys;
+        private final Team[] values;
+        private final long[] expiresAt;
+        private final int[] prev;
+        private final int[] next;
+        private int head = NONE;
+        private int tail = NONE;
+        private int freeList;
+        private int size;
+        // Bumped by every invalidation in the segment
+        private long generation;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+            this.mask = tableSize - 1;
+            this.slots = new int[tableSize];
+            this.keys = new int[capacity];
+            this.values = new Team[capacity];
+            this.expiresAt = new long[capacity];
+            this.prev = new int[capacity];
+            this.next = new int[capacity];
+            for (int i = 0; i < capacity; i++) {
+                next[i] = i + 1 < capacity ? i + 1 : NONE;
+            }
+            freeList = 0;
+        }
+
+        private synchronized Team get(int key, long now) {
+            int slot = findSlot(key);
+            if (slot < 0) {
+                return null;
+            }
+            int node = slots[slot] - 1;
+            if (expiresAt[node] - now <= 0) {
+                removeAt(slot);
+                expirations.increment();
+                return null;
+            }
+            moveToHead(node);
+            return values[node];
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void put(int key, Team value, long expiry, long stamp) {
+            if (stamp != NO_STAMP && stamp != generation) {
+                return;
+            }
+            int slot = findSlot(key);
+            if (slot >= 0) {
+                int node = slots[slot] - 1;
+                values[node] = value;
+                expiresAt[node] = expiry;
+                moveToHead(node);
+                return;
+            }
+
+            if (size == capacity) {
+                removeAt(findSlot(keys[tail]));
+                evictions.increment();
+            }
+
+            int node = freeList;
+            freeList = next[node];
+            keys[node] = key;
+            values[node] = value;
+            expiresAt[node] = expiry;
+            linkAtHead(node);
+            size++;
+
+            int index = mix(key) & mask;
+            while (slots[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = node + 1;
+        }
+
+        private synchronized void remove(int key) {
+            generation++;
+            int slot = findSlot(key);
+            if (slot >= 0) {
+                removeAt(slot);
+            }
+        }
+
+        private synchronized int size() {
+            return size;
+        }
+
+        private int findSlot(int key) {
+            int index = mix(key) & mask;
+            while (slots[index] != 0) {
+                if (keys[slots[index] - 1] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void removeAt(int slot) {
+            int node = slots[slot] - 1;
+            unlink(node);
+            values[node] = null;
+            next[node] = freeList;
+            freeList = node;
+            size--;
+
+            // Backward-shift deletion keeps linear probe chains intact without tombstones
+            int hole = slot;
+            int index = (slot + 1) & mask;
+            while (slots[index] != 0) {
+                int home = mix(keys[slots[index] - 1]) & mask;
+                if (((index - home) & mask) >= ((index - hole) & mask)) {
+                    slots[hole] = slots[index];
+                    hole = index;
+                }
+                index = (index + 1) & mask;
+            }
+            slots[hole] = 0;
+        }
+
+        private void moveToHead(int node) {
+            if (node != head) {
+                unlink(node);
+                linkAtHead(node);
+            }
+        }
+
+        private void linkAtHead(int node) {
+            prev[node] = NONE;
+            next[node] = head;
+            if (head != NONE) {
+                prev[head] = node;
+            }
+            head = node;
+            if (tail == NONE) {
+                tail = node;
+            }
+        }
+
+        private void unlink(int node) {
+            if (prev[node] != NONE) {
+                next[prev[node]] = next[node];
+            } else {
+                head = next[node];
+            }
+            if (next[node] != NONE) {
+                prev[next[node]] = prev[node];
+            } else {
+                tail = prev[node];
+            }
+        }
+    }
+}
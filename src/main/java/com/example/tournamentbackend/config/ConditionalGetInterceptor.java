@@ -0,0 +1,57 @@
+package com.example.tournamentbackend.config;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.cache.ResourceVersions.Resource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Answers If-None-Match for read endpoints from the in-memory resource versions. The tag is taken
+// before the controller runs, so it can only ever be older than the data it is attached to. Right
+// after a write the body may come from a replica that has not seen it yet, so no tag is given out
+// until the resources have settled; those responses are plain 200s.
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersions resourceVersions;
+
+    public ConditionalGetInterceptor(ResourceVersions resourceVersions) {
+        this.resourceVersions = resourceVersions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            return true;
+        }
+
+        // Clients may keep the body but must revalidate, which is now a cheap 304
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        Resource[] resources = resourcesFor(request.getRequestURI());
+        if (!resourceVersions.isSettled(resources)) {
+            return true;
+        }
+        String etag = resourceVersions.etag(resources);
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    // Match responses carry team names, form guides and head-to-heads are built from results, and
+    // standings and brackets combine all three tables
+    private static Resource[] resourcesFor(String path) {
+        if (path.startsWith("/api/matches")) {
+            return new Resource[]{Resource.MATCHES, Resource.TEAMS};
+        }
+        if (path.startsWith("/api/teams") && (path.endsWith("/form") || path.contains("/vs/"))) {
+            return new Resource[]{Resource.TEAMS, Resource.MATCHES};
+        }
+        if (path.startsWith("/api/teams")) {
+            return new Resource[]{Resource.TEAMS};
+        }
+        if (path.endsWith("/standings") || path.endsWith("/bracket")) {
+            return new Resource[]{Resource.TOURNAMENTS, Resource.TEAMS, Resource.MATCHES};
+        }
+        return new Resource[]{Resource.TOURNAMENTS};
+    }
+}
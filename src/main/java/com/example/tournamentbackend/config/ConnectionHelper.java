@@ -1,24 +0,0 @@
-package com.example.tournamentbackend.config;
-
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
-
-public class ConnectionHelper {
-    private static final String URL = "jdbc:postgresql://localhost:5432/tournament_dtb";
-    private static final String USERNAME = "postgres";
-    private static final String PASSWORD = "123";
-    private static final String DRIVER = "org.postgresql.Driver";
-
-    static {
-        try {
-            Class.forName(DRIVER);
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load PostgreSQL JDBC driver", e);
-        }
-    }
-
-    public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
-    }
-}
\ No newline at end of file
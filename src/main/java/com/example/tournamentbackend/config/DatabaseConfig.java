@@ -1,34 +1,164 @@
 package com.example.tournamentbackend.config;
 
+import com.example.tournamentbackend.exception.DatabaseBusyException;
+import com.example.tournamentbackend.metrics.MeteredDataSource;
+import com.example.tournamentbackend.routing.ReadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
 
 import javax.sql.DataSource;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
 
 @Configuration
 public class DatabaseConfig {
-    private static final String URL = "jdbc:postgresql://localhost:5432/tournament_dtb";
-    private static final String USERNAME = "postgres";
-    private static final String PASSWORD = "123";
     private static final String DRIVER = "org.postgresql.Driver";
 
-    @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @Value("${db.url:jdbc:postgresql://localhost:5432/tournament_dtb}")
+    private String url;
+
+    @Value("${db.username:postgres}")
+    private String username;
+
+    @Value("${db.password:123}")
+    private String password;
+
+    @Value("${db.pool.max-size:20}")
+    private int maxPoolSize;
+
+    @Value("${db.pool.min-idle:5}")
+    private int minIdle;
+
+    @Value("${db.pool.connection-timeout-ms:30000}")
+    private long connectionTimeoutMs;
+
+    @Value("${db.pool.validation-timeout-ms:5000}")
+    private long validationTimeoutMs;
+
+    @Value("${db.pool.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Value("${db.pool.max-lifetime-ms:1800000}")
+    private long maxLifetimeMs;
+
+    @Value("${db.pool.keepalive-ms:120000}")
+    private long keepaliveMs;
+
+    @Value("${db.pool.leak-detection-threshold-ms:10000}")
+    private long leakDetectionThresholdMs;
+
+    @Value("${db.statements.prepare-threshold:1}")
+    private int prepareThreshold;
+
+    @Value("${db.statements.cache-queries:256}")
+    private int statementCacheQueries;
+
+    @Value("${db.statements.cache-size-mib:5}")
+    private int statementCacheSizeMib;
+
+    // Blank keeps every read on the primary
+    @Value("${db.replica.url:}")
+    private String replicaUrl;
+
+    @Value("${db.replica.username:${db.username:postgres}}")
+    private String replicaUsername;
+
+    @Value("${db.replica.password:${db.password:123}}")
+    private String replicaPassword;
+
+    @Value("${db.replica.pool.max-size:20}")
+    private int replicaMaxPoolSize;
+
+    @Value("${db.replica.pool.connection-timeout-ms:1000}")
+    private long replicaConnectionTimeoutMs;
+
+    @Value("${db.replica.max-lag-ms:1000}")
+    private long replicaMaxLagMs;
+
+    @Value("${db.replica.lag-check-ms:1000}")
+    private long replicaLagCheckMs;
+
+    @Value("${db.limiter.enabled:false}")
+    private boolean limiterEnabled;
+
+    @Value("${db.limiter.max-concurrent:20}")
+    private int limiterMaxConcurrent;
+
+    @Value("${db.limiter.max-waiting:200}")
+    private int limiterMaxWaiting;
+
+    @Value("${db.limiter.acquire-timeout-ms:2000}")
+    private long limiterAcquireTimeoutMs;
+
+    // Single shared pool for every DAO, plus a read-only replica pool when db.replica.url is set; the
+    // pools open connections lazily on first use
+    @Bean(destroyMethod = "close")
+    public MeteredDataSource dataSource(MeterRegistry meterRegistry) {
+        DataSource dataSource = pool("tournament-pool", url, username, password, maxPoolSize, connectionTimeoutMs);
+        if (!replicaUrl.isBlank()) {
+            HikariDataSource replica = pool("tournament-replica-pool", replicaUrl, replicaUsername, replicaPassword,
+                    replicaMaxPoolSize, replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            dataSource = new ReadRoutingDataSource(dataSource, replica, replicaMaxLagMs, replicaLagCheckMs,
+                    meterRegistry);
+        }
+
+        if (!limiterEnabled) {
+            return new MeteredDataSource(dataSource);
+        }
+        return new MeteredDataSource(new ConcurrencyLimitedDataSource(dataSource, limiterMaxConcurrent,
+                limiterMaxWaiting, limiterAcquireTimeoutMs, meterRegistry));
+    }
+
+    private HikariDataSource pool(String poolName, String jdbcUrl, String user, String pass, int maxSize,
+                                  long timeoutMs) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
         dataSource.setDriverClassName(DRIVER);
-        dataSource.setUrl(URL);
-        dataSource.setUsername(USERNAME);
-        dataSource.setPassword(PASSWORD);
+        dataSource.setJdbcUrl(jdbcUrl);
+        dataSource.setUsername(user);
+        dataSource.setPassword(pass);
+        dataSource.setMaximumPoolSize(maxSize);
+        dataSource.setMinimumIdle(minIdle);
+        dataSource.setConnectionTimeout(timeoutMs);
+        dataSource.setValidationTimeout(Math.min(validationTimeoutMs, timeoutMs));
+        dataSource.setIdleTimeout(idleTimeoutMs);
+        dataSource.setMaxLifetime(maxLifetimeMs);
+        dataSource.setKeepaliveTime(keepaliveMs);
+        dataSource.setLeakDetectionThreshold(leakDetectionThresholdMs);
+        // The driver keeps server-side prepared statements per connection, keyed by SQL text, so the
+        // DAOs' fixed statements are parsed and planned once per pooled connection
+        dataSource.addDataSourceProperty("prepareThreshold", prepareThreshold);
+        dataSource.addDataSourceProperty("preparedStatementCacheQueries", statementCacheQueries);
+        dataSource.addDataSourceProperty("preparedStatementCacheSizeMiB", statementCacheSizeMib);
         return dataSource;
     }
 
+    // A transaction that cannot get a connection because the limiter is full should still answer 503
+    @Bean
+    public DataSourceTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource) {
+            @Override
+            protected void doBegin(Object transaction, TransactionDefinition definition) {
+                try {
+                    super.doBegin(transaction, definition);
+                } catch (CannotCreateTransactionException e) {
+                    if (e.getCause() instanceof DatabaseBusyException busy) {
+                        throw busy;
+                    }
+                    throw e;
+                }
+            }
+        };
+    }
+
     @Bean
-    public JdbcTemplate jdbcTemplate() {
-        return new JdbcTemplate(dataSource());
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.example.tournamentbackend.config;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ResourceVersions resourceVersions;
+
+    @Autowired
+    public WebConfig(ResourceVersions resourceVersions) {
+        this.resourceVersions = resourceVersions;
+    }
+
+    // Logos carry their own validators and the live feed is a stream
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(resourceVersions))
+                .addPathPatterns("/api/teams/**", "/api/matches/**", "/api/tournaments/**")
+                .excludePathPatterns("/api/teams/*/logo", "/api/tournaments/*/live");
+    }
+}
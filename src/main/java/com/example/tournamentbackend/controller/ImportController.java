@@ -0,0 +1,52 @@
+package com.example.tournamentbackend.controller;
+
+import com.example.tournamentbackend.dto.ImportJobDTO;
+import com.example.tournamentbackend.importer.ImportFormat;
+import com.example.tournamentbackend.service.ImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Autowired
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(value = "/teams", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportJobDTO> importTeams(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream upload) {
+        ImportJobDTO job = importService.importTeams(upload, ImportFormat.fromContentType(contentType));
+        return accepted(job);
+    }
+
+    @PostMapping(value = "/results", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportJobDTO> importResults(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream upload) {
+        ImportJobDTO job = importService.importResults(upload, ImportFormat.fromContentType(contentType));
+        return accepted(job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobDTO> getImportJob(@PathVariable String jobId) {
+        ImportJobDTO job = importService.getImportJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+
+    private ResponseEntity<ImportJobDTO> accepted(ImportJobDTO job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/import/" + job.getId()))
+                .body(job);
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.tournamentbackend.controller;
 
 import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.dto.RescheduleRoundDTO;
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
 import com.example.tournamentbackend.service.MatchService;
+import com.example.tournamentbackend.service.ScheduleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -15,10 +20,14 @@ import java.util.Map;
 public class MatchController {
 
     private final MatchService matchService;
+    private final ScheduleService scheduleService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public MatchController(MatchService matchService) {
+    public MatchController(MatchService matchService, ScheduleService scheduleService, ObjectMapper objectMapper) {
         this.matchService = matchService;
+        this.scheduleService = scheduleService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -27,6 +36,12 @@ public class MatchController {
         return new ResponseEntity<>(createdMatch, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<MatchDTO>> createMatches(@RequestBody List<MatchDTO> matchDTOs) {
+        List<MatchDTO> createdMatches = matchService.createMatches(matchDTOs);
+        return new ResponseEntity<>(createdMatches, HttpStatus.CREATED);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MatchDTO> getMatchById(@PathVariable Long id) {
         MatchDTO match = matchService.getMatchById(id);
@@ -34,17 +49,49 @@ public class MatchController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MatchDTO>> getAllMatches() {
+    public ResponseEntity<List<MatchDTO>> getAllMatches(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+
+        if (Paging.isPaged(after, limit)) {
+            int pageSize = Paging.clampLimit(limit);
+            return Paging.page(matchService.getMatchesPage(after, pageSize), pageSize, MatchDTO::getId);
+        }
+
         List<MatchDTO> matches = matchService.getAllMatches();
         return ResponseEntity.ok(matches);
     }
 
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllMatches() {
+        return Paging.stream(objectMapper, matchService::streamAllMatches);
+    }
+
     @GetMapping("/tournament/{tournamentId}")
     public ResponseEntity<List<MatchDTO>> getMatchesByTournamentId(@PathVariable Long tournamentId) {
         List<MatchDTO> matches = matchService.getMatchesByTournamentId(tournamentId);
         return ResponseEntity.ok(matches);
     }
 
+    @GetMapping("/tournament/{tournamentId}/conflicts")
+    public ResponseEntity<List<ScheduleConflictDTO>> getScheduleConflicts(@PathVariable Long tournamentId) {
+        List<ScheduleConflictDTO> conflicts = scheduleService.getConflicts(tournamentId);
+        return ResponseEntity.ok(conflicts);
+    }
+
+    @PostMapping("/tournament/{tournamentId}/reschedule")
+    public ResponseEntity<List<MatchDTO>> rescheduleRound(
+            @PathVariable Long tournamentId,
+            @RequestBody RescheduleRoundDTO request) {
+
+        if (request.getRound() == null || request.getStartsAt() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        List<MatchDTO> rescheduled = matchService.rescheduleRound(tournamentId, request);
+        return ResponseEntity.ok(rescheduled);
+    }
+
     @GetMapping("/team/{teamId}")
     public ResponseEntity<List<MatchDTO>> getMatchesByTeamId(@PathVariable int teamId) {
         List<MatchDTO> matches = matchService.getMatchesByTeamId(teamId);
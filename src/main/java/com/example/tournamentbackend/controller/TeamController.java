@@ -1,37 +1,60 @@
 package com.example.tournamentbackend.controller;
 
+import com.example.tournamentbackend.dto.FormDTO;
+import com.example.tournamentbackend.dto.HeadToHeadDTO;
 import com.example.tournamentbackend.dto.TeamDTO;
+import com.example.tournamentbackend.logo.LogoFile;
+import com.example.tournamentbackend.service.LogoService;
+import com.example.tournamentbackend.service.TeamFormService;
 import com.example.tournamentbackend.service.TeamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/teams")
 public class TeamController {
 
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int DEFAULT_FORM_GAMES = 5;
+    private static final int MAX_FORM_GAMES = 100;
+
     private final TeamService teamService;
+    private final TeamFormService teamFormService;
+    private final LogoService logoService;
+    private final ObjectMapper objectMapper;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    @Value("${logo.cache-max-age-seconds:86400}")
+    private long logoMaxAgeSeconds;
 
     @Autowired
-    public TeamController(TeamService teamService) {
+    public TeamController(TeamService teamService, TeamFormService teamFormService, LogoService logoService,
+                          ObjectMapper objectMapper) {
         this.teamService = teamService;
+        this.teamFormService = teamFormService;
+        this.logoService = logoService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -47,11 +70,24 @@ public class TeamController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
+    public ResponseEntity<List<TeamDTO>> getAllTeams(
+            @RequestParam(required = false) Integer after,
+            @RequestParam(required = false) Integer limit) {
+
+        if (Paging.isPaged(after, limit)) {
+            int pageSize = Paging.clampLimit(limit);
+            return Paging.page(teamService.getTeamsPage(after, pageSize), pageSize, TeamDTO::getId);
+        }
+
         List<TeamDTO> teams = teamService.getAllTeams();
         return ResponseEntity.ok(teams);
     }
 
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllTeams() {
+        return Paging.stream(objectMapper, teamService::streamAllTeams);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TeamDTO> updateTeam(@PathVariable int id, @RequestBody TeamDTO teamDTO) {
         TeamDTO updatedTeam = teamService.updateTeam(id, teamDTO);
@@ -64,6 +100,17 @@ public class TeamController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/{id}/form")
+    public ResponseEntity<FormDTO> getTeamForm(@PathVariable int id, @RequestParam(required = false) Integer n) {
+        int games = n == null ? DEFAULT_FORM_GAMES : Math.max(1, Math.min(n, MAX_FORM_GAMES));
+        return ResponseEntity.ok(teamFormService.getForm(id, games));
+    }
+
+    @GetMapping("/{id}/vs/{opponentId}")
+    public ResponseEntity<HeadToHeadDTO> getHeadToHead(@PathVariable int id, @PathVariable int opponentId) {
+        return ResponseEntity.ok(teamFormService.getHeadToHead(id, opponentId));
+    }
+
     @GetMapping("/tournament/{tournamentId}")
     public ResponseEntity<List<TeamDTO>> getTeamsByTournamentId(@PathVariable Long tournamentId) {
         List<TeamDTO> teams = teamService.getTeamsByTournamentId(tournamentId);
@@ -94,20 +141,13 @@ public class TeamController {
 
             teamService.getTeamById(teamId);
 
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            String filename = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-            Path filePath = uploadPath.resolve(filename);
-
-            Files.copy(file.getInputStream(), filePath);
-
-            String logoPath = filename;
+            // Thumbnails are generated in the background after the original is stored
+            String logoPath = logoService.storeLogo(file.getInputStream(), file.getOriginalFilename());
             teamService.updateTeamLogo(teamId, logoPath);
 
             return ResponseEntity.ok(logoPath);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -116,27 +156,46 @@ public class TeamController {
     }
 
     @GetMapping("/{teamId}/logo")
-    public ResponseEntity<Resource> getTeamLogo(@PathVariable int teamId) {
-        try {
-            TeamDTO team = teamService.getTeamById(teamId);
-
-            if (team.getLogoPath() == null || team.getLogoPath().isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
+    public void getTeamLogo(@PathVariable int teamId,
+                            @RequestParam(required = false) Integer size,
+                            ServletWebRequest webRequest,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LogoFile logo = logoService.getLogo(teamId, size);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                CacheControl.maxAge(logoMaxAgeSeconds, TimeUnit.SECONDS).cachePublic().getHeaderValue());
+        if (webRequest.checkNotModified(logo.getEtag(), logo.getLastModified())) {
+            return;
+        }
 
-            Path logoPath = Paths.get(uploadDir).resolve(team.getLogoPath());
-            Resource resource = new UrlResource(logoPath.toUri());
+        response.setContentType(logo.getContentType());
+        response.setContentLengthLong(logo.getSize());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "inline; filename=\"" + logo.getPath().getFileName() + "\"");
+        // Logos stored before uploads were limited to raster formats may still be SVG; never let
+        // one run script on this origin
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "default-src 'none'");
+
+        // Let Tomcat hand the file to the kernel with sendfile; otherwise copy channel to channel
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, logo.getPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, logo.getSize());
+            return;
+        }
 
-            if (resource.exists()) {
-                return ResponseEntity.ok()
-                        .contentType(MediaType.IMAGE_JPEG)
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
+        try (FileChannel channel = FileChannel.open(logo.getPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < logo.getSize()) {
+                long transferred = channel.transferTo(position, logo.getSize() - position, out);
+                // A blocking channel only moves nothing when the file shrank under us; give up rather than spin
+                if (transferred <= 0) {
+                    throw new IOException("Logo file changed while sending: " + logo.getPath().getFileName());
+                }
+                position += transferred;
             }
-        } catch (MalformedURLException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,23 @@
 package com.example.tournamentbackend.controller;
 
+import com.example.tournamentbackend.dto.BracketDTO;
+import com.example.tournamentbackend.dto.FixtureRequestDTO;
+import com.example.tournamentbackend.dto.FixtureSummaryDTO;
+import com.example.tournamentbackend.dto.StandingDTO;
 import com.example.tournamentbackend.dto.TournamentDTO;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.FixtureService;
+import com.example.tournamentbackend.service.LiveService;
+import com.example.tournamentbackend.service.StandingsService;
 import com.example.tournamentbackend.service.TournamentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -14,10 +26,22 @@ import java.util.List;
 public class TournamentController {
 
     private final TournamentService tournamentService;
+    private final StandingsService standingsService;
+    private final FixtureService fixtureService;
+    private final LiveService liveService;
+    private final BracketService bracketService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService, StandingsService standingsService,
+                                FixtureService fixtureService, LiveService liveService,
+                                BracketService bracketService, ObjectMapper objectMapper) {
         this.tournamentService = tournamentService;
+        this.standingsService = standingsService;
+        this.fixtureService = fixtureService;
+        this.liveService = liveService;
+        this.bracketService = bracketService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -33,11 +57,58 @@ public class TournamentController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TournamentDTO>> getAllTournaments() {
+    public ResponseEntity<List<TournamentDTO>> getAllTournaments(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
+
+        if (Paging.isPaged(after, limit)) {
+            int pageSize = Paging.clampLimit(limit);
+            return Paging.page(tournamentService.getTournamentsPage(after, pageSize), pageSize, TournamentDTO::getId);
+        }
+
         List<TournamentDTO> tournaments = tournamentService.getAllTournaments();
         return ResponseEntity.ok(tournaments);
     }
 
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllTournaments() {
+        return Paging.stream(objectMapper, tournamentService::streamAllTournaments);
+    }
+
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<List<StandingDTO>> getStandings(@PathVariable Long id) {
+        List<StandingDTO> standings = standingsService.getStandings(id);
+        return ResponseEntity.ok(standings);
+    }
+
+    @GetMapping("/{id}/bracket")
+    public ResponseEntity<BracketDTO> getBracket(@PathVariable Long id) {
+        BracketDTO bracket = bracketService.getBracket(id);
+        return ResponseEntity.ok(bracket);
+    }
+
+    // Browsers resend the last seen id as Last-Event-ID when they reconnect; lastEventId covers other clients
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        return liveService.subscribe(id, lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+
+    @PostMapping("/{id}/fixtures")
+    public ResponseEntity<?> generateFixtures(
+            @PathVariable Long id,
+            @RequestBody(required = false) FixtureRequestDTO request) {
+        try {
+            FixtureSummaryDTO summary = fixtureService.generateFixtures(id, request);
+            return new ResponseEntity<>(summary, HttpStatus.CREATED);
+        } catch (IllegalArgumentException e) {
+            // Unknown format or too few teams
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TournamentDTO> updateTournament(@PathVariable Long id, @RequestBody TournamentDTO tournamentDTO) {
         TournamentDTO updatedTournament = tournamentService.updateTournament(id, tournamentDTO);
@@ -2,15 +2,27 @@ package com.example.tournamentbackend.dao;
 
 import com.example.tournamentbackend.model.Match;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MatchDao {
     Match save(Match match);
+    void saveAll(List<Match> matches);
+    List<Match> saveAllReturning(List<Match> matches);
     Optional<Match> findById(Long id);
+    List<Match> findByIds(List<Long> ids);
     List<Match> findAll();
+    List<Match> findPage(Long afterId, int limit);
+    void streamAll(Consumer<Match> consumer);
     List<Match> findByTournamentId(Long tournamentId);
+    int countByTournamentId(Long tournamentId);
     List<Match> findByTeamId(int teamId);
+    List<Match> findByTournamentIdAndTeams(Long tournamentId, List<Integer> teamIds, LocalDateTime from, LocalDateTime to);
+    Optional<Match> findByBracketSlot(Long tournamentId, int slot);
     void update(Match match);
+    List<Match> recordResults(List<Match> matches);
+    void reschedule(List<Match> matches);
     void deleteById(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.example.tournamentbackend.dao;
+
+import com.example.tournamentbackend.model.MatchEvent;
+
+import java.util.List;
+
+public interface MatchEventDao {
+    List<MatchEvent> saveAll(List<MatchEvent> events);
+    List<MatchEvent> findByTournamentIdAfter(Long tournamentId, long afterEventId);
+    long findLastIdByTournamentId(Long tournamentId);
+}
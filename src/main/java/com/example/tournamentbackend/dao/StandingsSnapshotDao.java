@@ -0,0 +1,10 @@
+package com.example.tournamentbackend.dao;
+
+import com.example.tournamentbackend.model.StandingsSnapshot;
+
+import java.util.Optional;
+
+public interface StandingsSnapshotDao {
+    Optional<StandingsSnapshot> findByTournamentId(Long tournamentId);
+    void save(StandingsSnapshot snapshot);
+}
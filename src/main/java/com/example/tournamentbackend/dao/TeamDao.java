@@ -1,17 +1,28 @@
 package com.example.tournamentbackend.dao;
 
 import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TeamDao {
     Team save(Team team);
+    List<Team> saveAll(List<Team> teams);
     Optional<Team> findById(int id);
     List<Team> findAll();
+    List<Team> findPage(Integer afterId, int limit);
+    void streamAll(Consumer<Team> consumer);
     void update(Team team);
     void deleteById(int id);
     List<Team> findByTournamentId(Long tournamentId);
     void addTeamToTournament(int teamId, Long tournamentId);
+    void addTeamsToTournament(List<Integer> teamIds, Long tournamentId);
     void removeTeamFromTournament(int teamId, Long tournamentId);
+    void applyStatsDeltas(List<TeamStatsDelta> deltas);
+    List<Long> savePendingStats(List<TeamStatsDelta> deltas);
+    Map<Long, TeamStatsDelta> findPendingStats();
+    void applyPendingStats(List<Long> ids);
 }
\ No newline at end of file
@@ -2,13 +2,20 @@ package com.example.tournamentbackend.dao;
 
 import com.example.tournamentbackend.model.Tournament;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TournamentDao {
     Tournament save(Tournament tournament);
     Optional<Tournament> findById(Long id);
+    void lockById(Long id);
+    void lockAllById(Collection<Long> ids);
+    void lockAllByTeamId(int teamId);
     List<Tournament> findAll();
+    List<Tournament> findPage(Long afterId, int limit);
+    void streamAll(Consumer<Tournament> consumer);
     void update(Tournament tournament);
     void deleteById(Long id);
 }
\ No newline at end of file
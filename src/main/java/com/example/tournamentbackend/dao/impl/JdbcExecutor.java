@@ -0,0 +1,136 @@
+package com.example.tournamentbackend.dao.impl;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// Shared statement handling for the DAOs: every statement and result set is closed, list reads
+// fetch in chunks when they run inside a transaction, and rows are mapped by column positions
+// resolved once per result set. Errors come back as SQLException so each DAO keeps its own
+// messages and translation.
+final class JdbcExecutor {
+
+    // Only applies inside a transaction; with auto-commit the driver always reads the whole result
+    static final int LIST_FETCH_SIZE = 250;
+    static final int STREAM_FETCH_SIZE = 500;
+
+    static final Binder NO_PARAMETERS = ps -> {
+    };
+
+    @FunctionalInterface
+    interface Binder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    // Looks up the column positions for a result set and returns a mapper that reads by position
+    @FunctionalInterface
+    interface RowMapperFactory<T> {
+        RowMapper<T> forResultSet(ResultSet rs) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface BatchBinder<E> {
+        void bind(PreparedStatement ps, E item) throws SQLException;
+    }
+
+    private final DataSource dataSource;
+
+    // The DataSource should already be transaction-aware so calls join the current transaction
+    JdbcExecutor(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    <T> Optional<T> queryOne(String sql, Binder binder, RowMapperFactory<T> mappers) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            binder.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Optional.of(mappers.forResultSet(rs).map(rs)) : Optional.empty();
+            }
+        }
+    }
+
+    <T> List<T> query(String sql, Binder binder, RowMapperFactory<T> mappers) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            binder.bind(ps);
+            ps.setFetchSize(LIST_FETCH_SIZE);
+            try (ResultSet rs = ps.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                RowMapper<T> mapper = mappers.forResultSet(rs);
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
+                return rows;
+            }
+        }
+    }
+
+    // Single-value reads such as counts and MAX(id)
+    long queryLong(String sql, Binder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            binder.bind(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    // Hands rows to the consumer as they arrive. The PostgreSQL driver only fetches in chunks when
+    // auto-commit is off, so outside a transaction one is opened just for the read and rolled back.
+    <T> void stream(String sql, Binder binder, RowMapperFactory<T> mappers, Consumer<T> consumer) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                binder.bind(ps);
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+
+                try (ResultSet rs = ps.executeQuery()) {
+                    RowMapper<T> mapper = mappers.forResultSet(rs);
+                    while (rs.next()) {
+                        consumer.accept(mapper.map(rs));
+                    }
+                }
+            } finally {
+                if (autoCommit) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            }
+        }
+    }
+
+    int update(String sql, Binder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            binder.bind(ps);
+            return ps.executeUpdate();
+        }
+    }
+
+    <E> int[] batch(String sql, List<E> items, BatchBinder<E> binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (E item : items) {
+                binder.bind(ps, item);
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        }
+    }
+}
@@ -1,28 +1,59 @@
 package com.example.tournamentbackend.dao.impl;
 
-import com.example.tournamentbackend.config.ConnectionHelper;
+import com.example.tournamentbackend.exception.ConflictException;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
 import com.example.tournamentbackend.model.Match;
 import com.example.tournamentbackend.dao.MatchDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class MatchDaoImpl implements MatchDao {
 
+    // Team names are joined in so callers don't need a team lookup per match
+    private static final String SELECT_WITH_TEAM_NAMES = "SELECT m.*, home_team.name AS home_team_name, away_team.name AS away_team_name " +
+            "FROM matches m " +
+            "LEFT JOIN teams home_team ON home_team.id = m.home_team_id " +
+            "LEFT JOIN teams away_team ON away_team.id = m.away_team_id ";
+    private static final String RETURNING_WITH_TEAM_NAMES = "SELECT m.*, home_team.name AS home_team_name, away_team.name AS away_team_name " +
+            "FROM m " +
+            "LEFT JOIN teams home_team ON home_team.id = m.home_team_id " +
+            "LEFT JOIN teams away_team ON away_team.id = m.away_team_id";
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private final DataSource dataSource;
+    private final JdbcExecutor jdbc;
+    private final UpdateStatements<Match.Field> updateStatements =
+            new UpdateStatements<>("matches", MatchDaoImpl::column, "updated_at = ?");
+
+    @Autowired
+    public MatchDaoImpl(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+        this.jdbc = new JdbcExecutor(this.dataSource);
+    }
+
+    // One round trip: the inserted row comes back with the team names already joined in.
+    // Unknown teams or tournaments are rejected by the foreign keys rather than looked up first.
     @Override
     public Match save(Match match) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "INSERT INTO matches (tournament_id, home_team_id, away_team_id, home_team_score, " +
-                    "away_team_score, match_date, status, round, created_at) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String sql = "WITH m AS (INSERT INTO matches (tournament_id, home_team_id, away_team_id, home_team_score, " +
+                "away_team_score, match_date, status, round, created_at, bracket_slot) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING *) " +
+                RETURNING_WITH_TEAM_NAMES;
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
 
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
             ps.setLong(1, match.getTournamentId());
             ps.setInt(2, match.getHomeTeamId());
             ps.setInt(3, match.getAwayTeamId());
@@ -32,41 +63,128 @@ public class MatchDaoImpl implements MatchDao {
             ps.setString(7, match.getStatus() != null ? match.getStatus().toLowerCase() : "scheduled");
             ps.setString(8, match.getRound());
             ps.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setObject(10, match.getBracketSlot(), Types.INTEGER);
 
-            int affectedRows = ps.executeUpdate();
-            if (affectedRows == 0) {
-                throw new SQLException("Creating match failed, no rows affected.");
-            }
-
-            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    Long id = generatedKeys.getLong(1);
-                    match.setId(id);
-                    return findById(id).orElseThrow(() ->
-                            new ResourceNotFoundException("Match not found with id: " + id));
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new MatchRows(rs).map(rs);
                 } else {
-                    throw new SQLException("Creating match failed, no ID obtained.");
+                    throw new SQLException("Creating match failed, no row returned.");
                 }
             }
         } catch (SQLException e) {
-            throw new RuntimeException("Database error: " + e.getMessage(), e);
+            throw translate(e);
         }
     }
 
+    // Same as save for a whole list: the rows travel as one set of arrays and come back in one result
     @Override
-    public Optional<Match> findById(Long id) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM matches WHERE id = ?";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, id);
+    public List<Match> saveAllReturning(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = "WITH m AS (INSERT INTO matches (tournament_id, home_team_id, away_team_id, home_team_score, " +
+                "away_team_score, match_date, status, round, created_at, bracket_slot) " +
+                "SELECT * FROM unnest(?::bigint[], ?::int[], ?::int[], ?::int[], ?::int[], ?::timestamp[], " +
+                "?::varchar[], ?::varchar[], ?::timestamp[], ?::int[]) RETURNING *) " +
+                RETURNING_WITH_TEAM_NAMES + " ORDER BY m.id";
+
+        int size = matches.size();
+        Long[] tournamentIds = new Long[size];
+        Integer[] homeTeamIds = new Integer[size];
+        Integer[] awayTeamIds = new Integer[size];
+        Integer[] homeScores = new Integer[size];
+        Integer[] awayScores = new Integer[size];
+        Timestamp[] matchDates = new Timestamp[size];
+        String[] statuses = new String[size];
+        String[] rounds = new String[size];
+        Timestamp[] createdAt = new Timestamp[size];
+        Integer[] bracketSlots = new Integer[size];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < size; i++) {
+            Match match = matches.get(i);
+            tournamentIds[i] = match.getTournamentId();
+            homeTeamIds[i] = match.getHomeTeamId();
+            awayTeamIds[i] = match.getAwayTeamId();
+            homeScores[i] = match.getHomeTeamScore();
+            awayScores[i] = match.getAwayTeamScore();
+            matchDates[i] = match.getMatchDate() != null ? Timestamp.valueOf(match.getMatchDate()) : null;
+            statuses[i] = match.getStatus() != null ? match.getStatus().toLowerCase() : "scheduled";
+            rounds[i] = match.getRound();
+            createdAt[i] = now;
+            bracketSlots[i] = match.getBracketSlot();
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setArray(1, connection.createArrayOf("bigint", tournamentIds));
+            ps.setArray(2, connection.createArrayOf("int4", homeTeamIds));
+            ps.setArray(3, connection.createArrayOf("int4", awayTeamIds));
+            ps.setArray(4, connection.createArrayOf("int4", homeScores));
+            ps.setArray(5, connection.createArrayOf("int4", awayScores));
+            ps.setArray(6, connection.createArrayOf("timestamp", matchDates));
+            ps.setArray(7, connection.createArrayOf("varchar", statuses));
+            ps.setArray(8, connection.createArrayOf("varchar", rounds));
+            ps.setArray(9, connection.createArrayOf("timestamp", createdAt));
+            ps.setArray(10, connection.createArrayOf("int4", bracketSlots));
 
+            List<Match> saved = new ArrayList<>(size);
             try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapRowToMatch(rs));
-                } else {
-                    return Optional.empty();
+                MatchRows mapper = new MatchRows(rs);
+                while (rs.next()) {
+                    saved.add(mapper.map(rs));
                 }
             }
+            return saved;
+        } catch (SQLException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public void saveAll(List<Match> matches) {
+        String sql = "INSERT INTO matches (tournament_id, home_team_id, away_team_id, home_team_score, " +
+                "away_team_score, match_date, status, round, created_at, bracket_slot) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            jdbc.batch(sql, matches, (ps, match) -> {
+                ps.setLong(1, match.getTournamentId());
+                ps.setInt(2, match.getHomeTeamId());
+                ps.setInt(3, match.getAwayTeamId());
+                ps.setObject(4, match.getHomeTeamScore());
+                ps.setObject(5, match.getAwayTeamScore());
+                ps.setTimestamp(6, match.getMatchDate() != null ? Timestamp.valueOf(match.getMatchDate()) : null);
+                ps.setString(7, match.getStatus() != null ? match.getStatus().toLowerCase() : "scheduled");
+                ps.setString(8, match.getRound());
+                ps.setTimestamp(9, createdAt);
+                ps.setObject(10, match.getBracketSlot(), Types.INTEGER);
+            });
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Match> findById(Long id) {
+        try {
+            return jdbc.queryOne(SELECT_WITH_TEAM_NAMES + "WHERE m.id = ?", ps -> ps.setLong(1, id), MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Match> findByIds(List<Long> ids) {
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.id = ANY(?)";
+
+        try {
+            return jdbc.query(sql, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                    MatchRows::new);
         } catch (SQLException e) {
             throw new RuntimeException("Database error: " + e.getMessage(), e);
         }
@@ -74,17 +192,31 @@ public class MatchDaoImpl implements MatchDao {
 
     @Override
     public List<Match> findAll() {
-        List<Match> matches = new ArrayList<>();
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM matches ORDER BY match_date";
-            Statement stmt = connection.createStatement();
+        try {
+            return jdbc.query(SELECT_WITH_TEAM_NAMES + "ORDER BY m.match_date", JdbcExecutor.NO_PARAMETERS, MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
 
-            try (ResultSet rs = stmt.executeQuery(sql)) {
-                while (rs.next()) {
-                    matches.add(mapRowToMatch(rs));
-                }
-            }
-            return matches;
+    @Override
+    public List<Match> findPage(Long afterId, int limit) {
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.id > ? ORDER BY m.id LIMIT ?";
+
+        try {
+            return jdbc.query(sql, ps -> {
+                ps.setLong(1, afterId != null ? afterId : 0L);
+                ps.setInt(2, limit);
+            }, MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void streamAll(Consumer<Match> consumer) {
+        try {
+            jdbc.stream(SELECT_WITH_TEAM_NAMES + "ORDER BY m.id", JdbcExecutor.NO_PARAMETERS, MatchRows::new, consumer);
         } catch (SQLException e) {
             throw new RuntimeException("Database error: " + e.getMessage(), e);
         }
@@ -92,18 +224,21 @@ public class MatchDaoImpl implements MatchDao {
 
     @Override
     public List<Match> findByTournamentId(Long tournamentId) {
-        List<Match> matches = new ArrayList<>();
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM matches WHERE tournament_id = ? ORDER BY match_date";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, tournamentId);
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.tournament_id = ? ORDER BY m.match_date";
 
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    matches.add(mapRowToMatch(rs));
-                }
-            }
-            return matches;
+        try {
+            return jdbc.query(sql, ps -> ps.setLong(1, tournamentId), MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int countByTournamentId(Long tournamentId) {
+        String sql = "SELECT COUNT(*) FROM matches WHERE tournament_id = ?";
+
+        try {
+            return (int) jdbc.queryLong(sql, ps -> ps.setLong(1, tournamentId));
         } catch (SQLException e) {
             throw new RuntimeException("Database error: " + e.getMessage(), e);
         }
@@ -111,60 +246,151 @@ public class MatchDaoImpl implements MatchDao {
 
     @Override
     public List<Match> findByTeamId(int teamId) {
-        List<Match> matches = new ArrayList<>();
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM matches WHERE home_team_id = ? OR away_team_id = ? ORDER BY match_date";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setInt(1, teamId);
-            ps.setInt(2, teamId);
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.home_team_id = ? OR m.away_team_id = ? ORDER BY m.match_date";
 
-            try (ResultSet rs = ps.executeQuery()) {
-                while (rs.next()) {
-                    matches.add(mapRowToMatch(rs));
-                }
-            }
-            return matches;
+        try {
+            return jdbc.query(sql, ps -> {
+                ps.setInt(1, teamId);
+                ps.setInt(2, teamId);
+            }, MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    // Matches of any of the teams kicking off strictly between from and to, for schedule checks that
+    // only need the neighbourhood of a few new matches
+    @Override
+    public List<Match> findByTournamentIdAndTeams(Long tournamentId, List<Integer> teamIds,
+                                                  LocalDateTime from, LocalDateTime to) {
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.tournament_id = ? AND m.match_date > ? AND m.match_date < ? "
+                + "AND (m.home_team_id = ANY(?) OR m.away_team_id = ANY(?)) ORDER BY m.match_date";
+
+        try {
+            return jdbc.query(sql, ps -> {
+                Array teams = ps.getConnection().createArrayOf("integer", teamIds.toArray());
+                ps.setLong(1, tournamentId);
+                ps.setTimestamp(2, Timestamp.valueOf(from));
+                ps.setTimestamp(3, Timestamp.valueOf(to));
+                ps.setArray(4, teams);
+                ps.setArray(5, teams);
+            }, MatchRows::new);
         } catch (SQLException e) {
             throw new RuntimeException("Database error: " + e.getMessage(), e);
         }
     }
 
+    @Override
+    public Optional<Match> findByBracketSlot(Long tournamentId, int slot) {
+        String sql = SELECT_WITH_TEAM_NAMES + "WHERE m.tournament_id = ? AND m.bracket_slot = ?";
+
+        try {
+            return jdbc.queryOne(sql, ps -> {
+                ps.setLong(1, tournamentId);
+                ps.setInt(2, slot);
+            }, MatchRows::new);
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    // Writes only the columns changed since the match was loaded, guarded by its version so two
+    // edits of the same match can't silently overwrite each other
     @Override
     public void update(Match match) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "UPDATE matches SET tournament_id = ?, home_team_id = ?, away_team_id = ?, " +
-                    "home_team_score = ?, away_team_score = ?, match_date = ?, status = ?, round = ?, " +
-                    "updated_at = ? WHERE id = ?";
+        EnumSet<Match.Field> changed = match.changedFields();
+        if (changed.isEmpty()) {
+            return;
+        }
 
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, match.getTournamentId());
-            ps.setInt(2, match.getHomeTeamId());
-            ps.setInt(3, match.getAwayTeamId());
-            ps.setObject(4, match.getHomeTeamScore());
-            ps.setObject(5, match.getAwayTeamScore());
-            ps.setTimestamp(6, match.getMatchDate() != null ? Timestamp.valueOf(match.getMatchDate()) : null);
-            ps.setString(7, match.getStatus());
-            ps.setString(8, match.getRound());
-            ps.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
-            ps.setLong(10, match.getId());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(updateStatements.sqlFor(changed))) {
+            int index = 1;
+            for (Match.Field field : changed) {
+                bind(ps, index++, match, field);
+            }
+            ps.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setLong(index++, match.getId());
+            ps.setLong(index, match.getVersion());
 
             int affectedRows = ps.executeUpdate();
             if (affectedRows == 0) {
+                if (exists(connection, match.getId())) {
+                    throw new ConflictException("Match was modified concurrently, id: " + match.getId());
+                }
                 throw new ResourceNotFoundException("Match not found with id: " + match.getId());
             }
         } catch (SQLException e) {
             throw new RuntimeException("Database error: " + e.getMessage(), e);
         }
+        match.setVersion(match.getVersion() + 1);
+        match.markClean();
     }
 
+    // Each result only lands on the match as it was read: a match that another writer changed in the
+    // meantime, for example by recording its result first, is skipped and left out of the returned list
     @Override
-    public void deleteById(Long id) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "DELETE FROM matches WHERE id = ?";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, id);
+    public List<Match> recordResults(List<Match> matches) {
+        String sql = "UPDATE matches SET home_team_score = ?, away_team_score = ?, status = ?, updated_at = ?, " +
+                "version = version + 1 WHERE id = ? AND version = ?";
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
 
-            int affectedRows = ps.executeUpdate();
+        try {
+            int[] affectedRows = jdbc.batch(sql, matches, (ps, match) -> {
+                ps.setObject(1, match.getHomeTeamScore());
+                ps.setObject(2, match.getAwayTeamScore());
+                ps.setString(3, match.getStatus());
+                ps.setTimestamp(4, updatedAt);
+                ps.setLong(5, match.getId());
+                ps.setLong(6, match.getVersion());
+            });
+            List<Match> recorded = new ArrayList<>(matches.size());
+            for (int i = 0; i < affectedRows.length; i++) {
+                if (affectedRows[i] > 0) {
+                    Match match = matches.get(i);
+                    match.setVersion(match.getVersion() + 1);
+                    match.markClean();
+                    recorded.add(match);
+                }
+            }
+            return recorded;
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    // Moves matches to their new dates in one batch, each guarded by the version it was read at
+    @Override
+    public void reschedule(List<Match> matches) {
+        String sql = "UPDATE matches SET match_date = ?, updated_at = ?, version = version + 1 " +
+                "WHERE id = ? AND version = ?";
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        try {
+            int[] affectedRows = jdbc.batch(sql, matches, (ps, match) -> {
+                ps.setTimestamp(1, match.getMatchDate() != null ? Timestamp.valueOf(match.getMatchDate()) : null);
+                ps.setTimestamp(2, updatedAt);
+                ps.setLong(3, match.getId());
+                ps.setLong(4, match.getVersion());
+            });
+            for (int i = 0; i < affectedRows.length; i++) {
+                if (affectedRows[i] == 0) {
+                    throw new ConflictException("Match was modified concurrently, id: " + matches.get(i).getId());
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+        for (Match match : matches) {
+            match.setVersion(match.getVersion() + 1);
+            match.markClean();
+        }
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        try {
+            int affectedRows = jdbc.update("DELETE FROM matches WHERE id = ?", ps -> ps.setLong(1, id));
             if (affectedRows == 0) {
                 throw new ResourceNotFoundException("Match not found with id: " + id);
             }
@@ -173,19 +399,135 @@ public class MatchDaoImpl implements MatchDao {
         }
     }
 
-    private Match mapRowToMatch(ResultSet rs) throws SQLException {
-        return new Match(
-                rs.getLong("id"),
-                rs.getLong("tournament_id"),
-                rs.getInt("home_team_id"),
-                rs.getInt("away_team_id"),
-                (Integer) rs.getObject("home_team_score"),
-                (Integer) rs.getObject("away_team_score"),
-                rs.getTimestamp("match_date") != null ? rs.getTimestamp("match_date").toLocalDateTime() : null,
-                rs.getString("status"),
-                rs.getString("round"),
-                rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null,
-                rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null
-        );
+    private RuntimeException translate(SQLException e) {
+        if (FOREIGN_KEY_VIOLATION.equals(e.getSQLState())) {
+            return new ResourceNotFoundException("Team or tournament not found: " + e.getMessage());
+        }
+        return new RuntimeException("Database error: " + e.getMessage(), e);
+    }
+
+    private static boolean exists(Connection connection, Long id) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT 1 FROM matches WHERE id = ?")) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int index, Match match, Match.Field field) throws SQLException {
+        switch (field) {
+            case TOURNAMENT_ID:
+                ps.setLong(index, match.getTournamentId());
+                break;
+            case HOME_TEAM_ID:
+                ps.setInt(index, match.getHomeTeamId());
+                break;
+            case AWAY_TEAM_ID:
+                ps.setInt(index, match.getAwayTeamId());
+                break;
+            case HOME_TEAM_SCORE:
+                ps.setObject(index, match.getHomeTeamScore());
+                break;
+            case AWAY_TEAM_SCORE:
+                ps.setObject(index, match.getAwayTeamScore());
+                break;
+            case MATCH_DATE:
+                ps.setTimestamp(index, match.getMatchDate() != null ? Timestamp.valueOf(match.getMatchDate()) : null);
+                break;
+            case STATUS:
+                ps.setString(index, match.getStatus());
+                break;
+            case ROUND:
+                ps.setString(index, match.getRound());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown match field: " + field);
+        }
+    }
+
+    private static String column(Match.Field field) {
+        switch (field) {
+            case TOURNAMENT_ID:
+                return "tournament_id";
+            case HOME_TEAM_ID:
+                return "home_team_id";
+            case AWAY_TEAM_ID:
+                return "away_team_id";
+            case HOME_TEAM_SCORE:
+                return "home_team_score";
+            case AWAY_TEAM_SCORE:
+                return "away_team_score";
+            case MATCH_DATE:
+                return "match_date";
+            case STATUS:
+                return "status";
+            case ROUND:
+                return "round";
+            default:
+                throw new IllegalArgumentException("Unknown match field: " + field);
+        }
+    }
+
+    // Maps match rows by column position, looked up once per result set rather than by name per row
+    private static final class MatchRows implements JdbcExecutor.RowMapper<Match> {
+        private final int id;
+        private final int tournamentId;
+        private final int homeTeamId;
+        private final int awayTeamId;
+        private final int homeTeamScore;
+        private final int awayTeamScore;
+        private final int matchDate;
+        private final int status;
+        private final int round;
+        private final int createdAt;
+        private final int updatedAt;
+        private final int homeTeamName;
+        private final int awayTeamName;
+        private final int bracketSlot;
+        private final int version;
+
+        private MatchRows(ResultSet rs) throws SQLException {
+            id = rs.findColumn("id");
+            tournamentId = rs.findColumn("tournament_id");
+            homeTeamId = rs.findColumn("home_team_id");
+            awayTeamId = rs.findColumn("away_team_id");
+            homeTeamScore = rs.findColumn("home_team_score");
+            awayTeamScore = rs.findColumn("away_team_score");
+            matchDate = rs.findColumn("match_date");
+            status = rs.findColumn("status");
+            round = rs.findColumn("round");
+            createdAt = rs.findColumn("created_at");
+            updatedAt = rs.findColumn("updated_at");
+            homeTeamName = rs.findColumn("home_team_name");
+            awayTeamName = rs.findColumn("away_team_name");
+            bracketSlot = rs.findColumn("bracket_slot");
+            version = rs.findColumn("version");
+        }
+
+        @Override
+        public Match map(ResultSet rs) throws SQLException {
+            return new Match(
+                    rs.getLong(id),
+                    rs.getLong(tournamentId),
+                    rs.getInt(homeTeamId),
+                    rs.getInt(awayTeamId),
+                    rs.getObject(homeTeamScore, Integer.class),
+                    rs.getObject(awayTeamScore, Integer.class),
+                    toLocalDateTime(rs.getTimestamp(matchDate)),
+                    rs.getString(status),
+                    rs.getString(round),
+                    toLocalDateTime(rs.getTimestamp(createdAt)),
+                    toLocalDateTime(rs.getTimestamp(updatedAt)),
+                    rs.getString(homeTeamName),
+                    rs.getString(awayTeamName),
+                    rs.getObject(bracketSlot, Integer.class),
+                    rs.getLong(version)
+            );
+        }
+
+        private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+            return timestamp != null ? timestamp.toLocalDateTime() : null;
+        }
     }
-}
\ No newline at end of file
+}
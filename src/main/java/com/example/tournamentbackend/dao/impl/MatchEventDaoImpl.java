@@ -0,0 +1,134 @@
+package com.example.tournamentbackend.dao.impl;
+
+import com.example.tournamentbackend.dao.MatchEventDao;
+import com.example.tournamentbackend.model.MatchEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class MatchEventDaoImpl implements MatchEventDao {
+
+    private final DataSource dataSource;
+
+    @Autowired
+    public MatchEventDaoImpl(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    // Events are never updated or deleted; corrections are new events
+    @Override
+    public List<MatchEvent> saveAll(List<MatchEvent> events) {
+        if (events.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = "INSERT INTO match_events (match_id, tournament_id, type, home_team_id, away_team_id, " +
+                "home_team_score, away_team_score) " +
+                "SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::varchar[], ?::int[], ?::int[], ?::int[], ?::int[]) " +
+                "RETURNING *";
+
+        int size = events.size();
+        Long[] matchIds = new Long[size];
+        Long[] tournamentIds = new Long[size];
+        String[] types = new String[size];
+        Integer[] homeTeamIds = new Integer[size];
+        Integer[] awayTeamIds = new Integer[size];
+        Integer[] homeScores = new Integer[size];
+        Integer[] awayScores = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            MatchEvent event = events.get(i);
+            matchIds[i] = event.getMatchId();
+            tournamentIds[i] = event.getTournamentId();
+            types[i] = event.getType();
+            homeTeamIds[i] = event.getHomeTeamId();
+            awayTeamIds[i] = event.getAwayTeamId();
+            homeScores[i] = event.getHomeTeamScore();
+            awayScores[i] = event.getAwayTeamScore();
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setArray(1, connection.createArrayOf("bigint", matchIds));
+            ps.setArray(2, connection.createArrayOf("bigint", tournamentIds));
+            ps.setArray(3, connection.createArrayOf("varchar", types));
+            ps.setArray(4, connection.createArrayOf("int4", homeTeamIds));
+            ps.setArray(5, connection.createArrayOf("int4", awayTeamIds));
+            ps.setArray(6, connection.createArrayOf("int4", homeScores));
+            ps.setArray(7, connection.createArrayOf("int4", awayScores));
+
+            List<MatchEvent> saved = new ArrayList<>(size);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    saved.add(mapRowToEvent(rs));
+                }
+            }
+            return saved;
+        } catch (SQLException e) {
+            System.out.println("Error saving match events: " + e.getMessage());
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<MatchEvent> findByTournamentIdAfter(Long tournamentId, long afterEventId) {
+        String sql = "SELECT * FROM match_events WHERE tournament_id = ? AND id > ? ORDER BY id";
+        List<MatchEvent> events = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, tournamentId);
+            ps.setLong(2, afterEventId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    events.add(mapRowToEvent(rs));
+                }
+            }
+            return events;
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public long findLastIdByTournamentId(Long tournamentId) {
+        String sql = "SELECT COALESCE(MAX(id), 0) FROM match_events WHERE tournament_id = ?";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, tournamentId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    private MatchEvent mapRowToEvent(ResultSet rs) throws SQLException {
+        MatchEvent event = new MatchEvent();
+        event.setId(rs.getLong("id"));
+        event.setMatchId(rs.getLong("match_id"));
+        event.setTournamentId(rs.getLong("tournament_id"));
+        event.setType(rs.getString("type"));
+        event.setHomeTeamId(rs.getInt("home_team_id"));
+        event.setAwayTeamId(rs.getInt("away_team_id"));
+        event.setHomeTeamScore(rs.getObject("home_team_score", Integer.class));
+        event.setAwayTeamScore(rs.getObject("away_team_score", Integer.class));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        event.setCreatedAt(createdAt != null ? createdAt.toLocalDateTime() : null);
+        return event;
+    }
+}
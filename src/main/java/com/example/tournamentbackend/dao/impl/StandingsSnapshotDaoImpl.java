@@ -0,0 +1,71 @@
+package com.example.tournamentbackend.dao.impl;
+
+import com.example.tournamentbackend.dao.StandingsSnapshotDao;
+import com.example.tournamentbackend.model.StandingsSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.Optional;
+
+// Keeps only the latest snapshot per tournament
+@Repository
+public class StandingsSnapshotDaoImpl implements StandingsSnapshotDao {
+
+    private final DataSource dataSource;
+
+    @Autowired
+    public StandingsSnapshotDaoImpl(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+    }
+
+    @Override
+    public Optional<StandingsSnapshot> findByTournamentId(Long tournamentId) {
+        String sql = "SELECT * FROM standings_snapshots WHERE tournament_id = ?";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, tournamentId);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return Optional.empty();
+                }
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                return Optional.of(new StandingsSnapshot(
+                        rs.getLong("tournament_id"),
+                        rs.getLong("last_event_id"),
+                        rs.getString("state"),
+                        createdAt != null ? createdAt.toLocalDateTime() : null
+                ));
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+
+    // A slower writer holding an older snapshot never replaces a newer one
+    @Override
+    public void save(StandingsSnapshot snapshot) {
+        String sql = "INSERT INTO standings_snapshots (tournament_id, last_event_id, state, created_at) " +
+                "VALUES (?, ?, ?, now()) " +
+                "ON CONFLICT (tournament_id) DO UPDATE SET last_event_id = EXCLUDED.last_event_id, " +
+                "state = EXCLUDED.state, created_at = EXCLUDED.created_at " +
+                "WHERE standings_snapshots.last_event_id < EXCLUDED.last_event_id";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+
+            ps.setLong(1, snapshot.getTournamentId());
+            ps.setLong(2, snapshot.getLastEventId());
+            ps.setString(3, snapshot.getState());
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            System.out.println("Error saving standings snapshot: " + e.getMessage());
+            throw new RuntimeException("Database error: " + e.getMessage(), e);
+        }
+    }
+}
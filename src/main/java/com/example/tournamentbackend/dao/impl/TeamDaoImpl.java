@@ -1,37 +1,54 @@
 package com.example.tournamentbackend.dao.impl;
 
-import com.example.tournamentbackend.config.ConnectionHelper;
+import com.example.tournamentbackend.cache.TeamCache;
+import com.example.tournamentbackend.exception.ConflictException;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
 import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import com.example.tournamentbackend.routing.ReadRouting;
 import com.example.tournamentbackend.dao.TeamDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class TeamDaoImpl implements TeamDao {
 
+    private final DataSource dataSource;
+    private final JdbcExecutor jdbc;
+    private final TeamCache teamCache;
+    private final UpdateStatements<Team.Field> updateStatements =
+            new UpdateStatements<>("teams", TeamDaoImpl::column, null);
+
+    @Autowired
+    public TeamDaoImpl(DataSource dataSource, TeamCache teamCache) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+        this.jdbc = new JdbcExecutor(this.dataSource);
+        this.teamCache = teamCache;
+    }
+
     @Override
     public Team save(Team team) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "INSERT INTO teams (name, played, wins, draws, losses, goal_difference, goals_scored, goals_conceded, last_5_games, points, logo_path) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-            ps.setString(1, team.getName());
-            ps.setInt(2, team.getPlayed());
-            ps.setInt(3, team.getWins());
-            ps.setInt(4, team.getDraws());
-            ps.setInt(5, team.getLosses());
-            ps.setInt(6, team.getGoalDifference());
-            ps.setInt(7, team.getGoalsScored());
-            ps.setInt(8, team.getGoalsConceded());
-            ps.setString(9, team.getLast5Games());
-            ps.setInt(10, team.getPoints());
-            ps.setString(11, team.getLogoPath());
+        String sql = "INSERT INTO teams (name, played, wins, draws, losses, goal_difference, goals_scored, goals_conceded, last_5_games, points, logo_path) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(ps, team);
 
             int row = ps.executeUpdate();
 
@@ -47,6 +64,8 @@ public class TeamDaoImpl implements TeamDao {
                 }
             }
 
+            invalidate(team.getId());
+
             return team;
         } catch (SQLException e) {
             System.out.println("Error saving team: " + e.getMessage());
@@ -55,87 +74,141 @@ public class TeamDaoImpl implements TeamDao {
     }
 
     @Override
-    public Optional<Team> findById(int id) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM teams WHERE id = ?";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setInt(1, id);
+    public List<Team> saveAll(List<Team> teams) {
+        String sql = "INSERT INTO teams (name, played, wins, draws, losses, goal_difference, goals_scored, goals_conceded, last_5_games, points, logo_path) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    Team team = mapResultSetToTeam(rs);
-                    return Optional.of(team);
-                } else {
-                    return Optional.empty();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+            for (Team team : teams) {
+                bindInsert(ps, team);
+                ps.addBatch();
+            }
+
+            ps.executeBatch();
+
+            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                for (Team team : teams) {
+                    if (!generatedKeys.next()) {
+                        throw new ResourceNotFoundException("Creating team failed, no ID obtained.");
+                    }
+                    team.setId(generatedKeys.getInt("id"));
                 }
             }
+
+            return teams;
         } catch (SQLException e) {
-            System.out.println("Error finding team by ID: " + e.getMessage());
-            return Optional.empty();
+            System.out.println("Error saving teams: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
         }
     }
 
     @Override
-    public List<Team> findAll() {
-        List<Team> teams = new ArrayList<>();
-
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT * FROM teams ORDER BY points DESC, goal_difference DESC";
-            Statement statement = connection.createStatement();
+    public Optional<Team> findById(int id) {
+        // A transaction may see its own uncommitted writes, which must neither come from nor go into the cache
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (!inTransaction) {
+            Team cached = teamCache.get(id);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
 
-            try (ResultSet rs = statement.executeQuery(sql)) {
-                while (rs.next()) {
-                    Team team = mapResultSetToTeam(rs);
-                    teams.add(team);
+        // Cache fills read the primary; a lagging replica could put back a row an update just evicted
+        long stamp = teamCache.stamp(id);
+        return ReadRouting.onPrimary(() -> {
+            try {
+                Optional<Team> team = jdbc.queryOne("SELECT * FROM teams WHERE id = ?", ps -> ps.setInt(1, id),
+                        TeamRows::new);
+                if (!inTransaction) {
+                    team.ifPresent(found -> teamCache.put(found, stamp));
                 }
+                return team;
+            } catch (SQLException e) {
+                System.out.println("Error finding team by ID: " + e.getMessage());
+                return Optional.empty();
             }
+        });
+    }
+
+    @Override
+    public List<Team> findAll() {
+        try {
+            return jdbc.query("SELECT * FROM teams ORDER BY points DESC, goal_difference DESC",
+                    JdbcExecutor.NO_PARAMETERS, TeamRows::new);
         } catch (SQLException e) {
             System.out.println("Error finding all teams: " + e.getMessage());
+            return new ArrayList<>();
         }
+    }
+
+    @Override
+    public List<Team> findPage(Integer afterId, int limit) {
+        String sql = "SELECT * FROM teams WHERE id > ? ORDER BY id LIMIT ?";
+
+        try {
+            return jdbc.query(sql, ps -> {
+                ps.setInt(1, afterId != null ? afterId : 0);
+                ps.setInt(2, limit);
+            }, TeamRows::new);
+        } catch (SQLException e) {
+            System.out.println("Error finding team page: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
+    }
 
-        return teams;
+    @Override
+    public void streamAll(Consumer<Team> consumer) {
+        try {
+            jdbc.stream("SELECT * FROM teams ORDER BY id", JdbcExecutor.NO_PARAMETERS, TeamRows::new, consumer);
+        } catch (SQLException e) {
+            System.out.println("Error streaming teams: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
     }
 
+    // Writes only the columns changed since the team was loaded, so a logo change no longer rewrites
+    // the stats and vice versa. The version check turns a concurrent write into a conflict instead
+    // of a silent overwrite.
     @Override
     public void update(Team team) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "UPDATE teams SET name = ?, played = ?, wins = ?, draws = ?, losses = ?, " +
-                    "goal_difference = ?, goals_scored = ?, goals_conceded = ?, last_5_games = ?, points = ?, logo_path = ? " +
-                    "WHERE id = ?";
-
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setString(1, team.getName());
-            ps.setInt(2, team.getPlayed());
-            ps.setInt(3, team.getWins());
-            ps.setInt(4, team.getDraws());
-            ps.setInt(5, team.getLosses());
-            ps.setInt(6, team.getGoalDifference());
-            ps.setInt(7, team.getGoalsScored());
-            ps.setInt(8, team.getGoalsConceded());
-            ps.setString(9, team.getLast5Games());
-            ps.setInt(10, team.getPoints());
-            ps.setString(11, team.getLogoPath());
-            ps.setInt(12, team.getId());
+        EnumSet<Team.Field> changed = team.changedFields();
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(updateStatements.sqlFor(changed))) {
+            int index = 1;
+            for (Team.Field field : changed) {
+                bind(ps, index++, team, field);
+            }
+            ps.setInt(index++, team.getId());
+            ps.setLong(index, team.getVersion());
 
             int updatedRow = ps.executeUpdate();
+            invalidate(team.getId());
 
             if (updatedRow == 0) {
+                if (exists(connection, team.getId())) {
+                    throw new ConflictException("Team was modified concurrently, id: " + team.getId());
+                }
                 throw new ResourceNotFoundException("Team not found with id: " + team.getId());
             }
         } catch (SQLException e) {
             System.out.println("Error updating team: " + e.getMessage());
             throw new RuntimeException("Database error occurred", e);
         }
+        team.setVersion(team.getVersion() + 1);
+        team.markClean();
     }
 
     @Override
     public void deleteById(int id) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "DELETE FROM teams WHERE id = ?";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setInt(1, id);
-
-            int deletedRow = ps.executeUpdate();
+        try {
+            int deletedRow = jdbc.update("DELETE FROM teams WHERE id = ?", ps -> ps.setInt(1, id));
+            invalidate(id);
 
             if (deletedRow == 0) {
                 throw new ResourceNotFoundException("Team not found with id: " + id);
@@ -148,75 +221,428 @@ public class TeamDaoImpl implements TeamDao {
 
     @Override
     public List<Team> findByTournamentId(Long tournamentId) {
-        List<Team> teams = new ArrayList<>();
+        String sql = "SELECT t.* FROM teams t " +
+                "JOIN tournament_teams tt ON t.id = tt.team_id " +
+                "WHERE tt.tournament_id = ? " +
+                "ORDER BY t.points DESC, t.goal_difference DESC";
+
+        try {
+            return jdbc.query(sql, ps -> ps.setLong(1, tournamentId), TeamRows::new);
+        } catch (SQLException e) {
+            System.out.println("Error finding teams by tournament ID: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    @Override
+    public void addTeamToTournament(int teamId, Long tournamentId) {
+        try {
+            jdbc.update("INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?)", ps -> {
+                ps.setLong(1, tournamentId);
+                ps.setInt(2, teamId);
+            });
+        } catch (SQLException e) {
+            System.out.println("Error adding team to tournament: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
+    }
+
+    @Override
+    public void addTeamsToTournament(List<Integer> teamIds, Long tournamentId) {
+        String sql = "INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?)";
+
+        try {
+            jdbc.batch(sql, teamIds, (ps, teamId) -> {
+                ps.setLong(1, tournamentId);
+                ps.setInt(2, teamId);
+            });
+        } catch (SQLException e) {
+            System.out.println("Error adding teams to tournament: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
+    }
+
+    @Override
+    public void removeTeamFromTournament(int teamId, Long tournamentId) {
+        try {
+            jdbc.update("DELETE FROM tournament_teams WHERE tournament_id = ? AND team_id = ?", ps -> {
+                ps.setLong(1, tournamentId);
+                ps.setInt(2, teamId);
+            });
+        } catch (SQLException e) {
+            System.out.println("Error removing team from tournament: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
+    }
 
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "SELECT t.* FROM teams t " +
-                    "JOIN tournament_teams tt ON t.id = tt.team_id " +
-                    "WHERE tt.tournament_id = ? " +
-                    "ORDER BY t.points DESC, t.goal_difference DESC";
+    @Override
+    public void applyStatsDeltas(List<TeamStatsDelta> deltas) {
+        List<TeamStatsDelta> ordered = orderedByTeam(deltas);
+        try (Connection connection = dataSource.getConnection()) {
+            int[] updatedRows = executeStatsDeltas(connection, ordered);
+            for (TeamStatsDelta delta : ordered) {
+                invalidate(delta.getTeamId());
+            }
+            for (int i = 0; i < updatedRows.length; i++) {
+                if (updatedRows[i] == 0) {
+                    throw new ResourceNotFoundException("Team not found with id: " + ordered.get(i).getTeamId());
+                }
+            }
+        } catch (SQLException e) {
+            System.out.println("Error applying team stats: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
+        }
+    }
+
+    // Records deltas for the write-behind in the caller's transaction, so they commit or roll back
+    // with the result they belong to
+    @Override
+    public List<Long> savePendingStats(List<TeamStatsDelta> deltas) {
+        String sql = "INSERT INTO team_stats_pending (team_id, played, wins, draws, losses, goals_scored, " +
+                "goals_conceded, points, result) SELECT * FROM unnest(?::int[], ?::int[], ?::int[], ?::int[], " +
+                "?::int[], ?::int[], ?::int[], ?::int[], ?::varchar[]) RETURNING id";
+
+        int size = deltas.size();
+        Integer[][] columns = new Integer[8][size];
+        String[] results = new String[size];
+        for (int i = 0; i < size; i++) {
+            TeamStatsDelta delta = deltas.get(i);
+            columns[0][i] = delta.getTeamId();
+            columns[1][i] = delta.getPlayed();
+            columns[2][i] = delta.getWins();
+            columns[3][i] = delta.getDraws();
+            columns[4][i] = delta.getLosses();
+            columns[5][i] = delta.getGoalsScored();
+            columns[6][i] = delta.getGoalsConceded();
+            columns[7][i] = delta.getPoints();
+            results[i] = delta.getResult();
+        }
 
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, tournamentId);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int column = 0; column < columns.length; column++) {
+                ps.setArray(column + 1, connection.createArrayOf("int4", columns[column]));
+            }
+            ps.setArray(9, connection.createArrayOf("varchar", results));
 
+            List<Long> ids = new ArrayList<>(size);
             try (ResultSet rs = ps.executeQuery()) {
                 while (rs.next()) {
-                    Team team = mapResultSetToTeam(rs);
-                    teams.add(team);
+                    ids.add(rs.getLong(1));
                 }
             }
+            return ids;
         } catch (SQLException e) {
-            System.out.println("Error finding teams by tournament ID: " + e.getMessage());
+            System.out.println("Error saving pending team stats: " + e.getMessage());
+            throw new RuntimeException("Database error occurred", e);
         }
-
-        return teams;
     }
 
+    // Every delta not yet applied, in the order it was recorded
     @Override
-    public void addTeamToTournament(int teamId, Long tournamentId) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "INSERT INTO tournament_teams (tournament_id, team_id) VALUES (?, ?)";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, tournamentId);
-            ps.setInt(2, teamId);
-
-            ps.executeUpdate();
+    public Map<Long, TeamStatsDelta> findPendingStats() {
+        Map<Long, TeamStatsDelta> pending = new LinkedHashMap<>();
+        try {
+            for (PendingStats row : jdbc.query("SELECT * FROM team_stats_pending ORDER BY id",
+                    JdbcExecutor.NO_PARAMETERS, PendingStatsRows::new)) {
+                pending.put(row.id, row.delta);
+            }
+            return pending;
         } catch (SQLException e) {
-            System.out.println("Error adding team to tournament: " + e.getMessage());
+            System.out.println("Error finding pending team stats: " + e.getMessage());
             throw new RuntimeException("Database error occurred", e);
         }
     }
 
+    // Removes the pending rows and adds them to the teams in one transaction. Rows someone else
+    // already applied are simply not there any more, so applying the same ids twice is harmless.
     @Override
-    public void removeTeamFromTournament(int teamId, Long tournamentId) {
-        try (Connection connection = ConnectionHelper.getConnection()) {
-            String sql = "DELETE FROM tournament_teams WHERE tournament_id = ? AND team_id = ?";
-            PreparedStatement ps = connection.prepareStatement(sql);
-            ps.setLong(1, tournamentId);
-            ps.setInt(2, teamId);
+    public void applyPendingStats(List<Long> ids) {
+        String deleteSql = "DELETE FROM team_stats_pending WHERE id = ANY(?) RETURNING *";
+        List<TeamStatsDelta> ordered = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<PendingStats> deleted = new ArrayList<>(ids.size());
+                try (PreparedStatement ps = connection.prepareStatement(deleteSql)) {
+                    ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                    try (ResultSet rs = ps.executeQuery()) {
+                        PendingStatsRows mapper = new PendingStatsRows(rs);
+                        while (rs.next()) {
+                            deleted.add(mapper.map(rs));
+                        }
+                    }
+                }
 
-            ps.executeUpdate();
+                // Merged in recorded order, so the form guide letters stay in sequence
+                deleted.sort(Comparator.comparingLong(row -> row.id));
+                Map<Integer, TeamStatsDelta> byTeam = new HashMap<>();
+                for (PendingStats row : deleted) {
+                    byTeam.merge(row.delta.getTeamId(), row.delta, TeamStatsDelta::merge);
+                }
+                ordered = orderedByTeam(new ArrayList<>(byTeam.values()));
+
+                executeStatsDeltas(connection, ordered);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+                // This transaction is local to the connection, so it has ended by now either way
+                for (TeamStatsDelta delta : ordered) {
+                    teamCache.invalidate(delta.getTeamId());
+                }
+            }
         } catch (SQLException e) {
-            System.out.println("Error removing team from tournament: " + e.getMessage());
+            System.out.println("Error applying pending team stats: " + e.getMessage());
             throw new RuntimeException("Database error occurred", e);
         }
     }
 
-    // Helper method to map ResultSet to Team entity
-    private Team mapResultSetToTeam(ResultSet rs) throws SQLException {
-        return new Team(
-                rs.getInt("id"),
-                rs.getString("name"),
-                rs.getInt("played"),
-                rs.getInt("wins"),
-                rs.getInt("draws"),
-                rs.getInt("losses"),
-                rs.getInt("goal_difference"),
-                rs.getInt("goals_scored"),
-                rs.getInt("goals_conceded"),
-                rs.getString("last_5_games"),
-                rs.getInt("points"),
-                rs.getString("logo_path")
-        );
-    }
-}
\ No newline at end of file
+    // Lock rows in id order so two results touching the same teams can't deadlock
+    private static List<TeamStatsDelta> orderedByTeam(List<TeamStatsDelta> deltas) {
+        List<TeamStatsDelta> ordered = new ArrayList<>(deltas);
+        ordered.sort(Comparator.comparingInt(TeamStatsDelta::getTeamId));
+        return ordered;
+    }
+
+    private int[] executeStatsDeltas(Connection connection, List<TeamStatsDelta> ordered) throws SQLException {
+        // Increment in the database so concurrent results for the same team can't overwrite each other
+        String sql = "UPDATE teams SET played = played + ?, wins = wins + ?, draws = draws + ?, losses = losses + ?, " +
+                "goals_scored = goals_scored + ?, goals_conceded = goals_conceded + ?, " +
+                "goal_difference = goal_difference + ?, points = points + ?, " +
+                "last_5_games = RIGHT(COALESCE(last_5_games, '') || ?, 5), version = version + 1 " +
+                "WHERE id = ?";
+
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (TeamStatsDelta delta : ordered) {
+                ps.setInt(1, delta.getPlayed());
+                ps.setInt(2, delta.getWins());
+                ps.setInt(3, delta.getDraws());
+                ps.setInt(4, delta.getLosses());
+                ps.setInt(5, delta.getGoalsScored());
+                ps.setInt(6, delta.getGoalsConceded());
+                ps.setInt(7, delta.getGoalsScored() - delta.getGoalsConceded());
+                ps.setInt(8, delta.getPoints());
+                ps.setString(9, delta.getResult());
+                ps.setInt(10, delta.getTeamId());
+                ps.addBatch();
+            }
+
+            return ps.executeBatch();
+        }
+    }
+
+    // Dropped now and again once the surrounding transaction ends, committed or rolled back. A reader
+    // that loaded the old row in between cannot put it back: its stamp predates the second drop.
+    private void invalidate(int id) {
+        teamCache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    teamCache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private static boolean exists(Connection connection, int id) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT 1 FROM teams WHERE id = ?")) {
+            ps.setInt(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, int index, Team team, Team.Field field) throws SQLException {
+        switch (field) {
+            case NAME:
+                ps.setString(index, team.getName());
+                break;
+            case PLAYED:
+                ps.setInt(index, team.getPlayed());
+                break;
+            case WINS:
+                ps.setInt(index, team.getWins());
+                break;
+            case DRAWS:
+                ps.setInt(index, team.getDraws());
+                break;
+            case LOSSES:
+                ps.setInt(index, team.getLosses());
+                break;
+            case GOAL_DIFFERENCE:
+                ps.setInt(index, team.getGoalDifference());
+                break;
+            case GOALS_SCORED:
+                ps.setInt(index, team.getGoalsScored());
+                break;
+            case GOALS_CONCEDED:
+                ps.setInt(index, team.getGoalsConceded());
+                break;
+            case LAST_5_GAMES:
+                ps.setString(index, team.getLast5Games());
+                break;
+            case POINTS:
+                ps.setInt(index, team.getPoints());
+                break;
+            case LOGO_PATH:
+                ps.setString(index, team.getLogoPath());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown team field: " + field);
+        }
+    }
+
+    private static String column(Team.Field field) {
+        switch (field) {
+            case NAME:
+                return "name";
+            case PLAYED:
+                return "played";
+            case WINS:
+                return "wins";
+            case DRAWS:
+                return "draws";
+            case LOSSES:
+                return "losses";
+            case GOAL_DIFFERENCE:
+                return "goal_difference";
+            case GOALS_SCORED:
+                return "goals_scored";
+            case GOALS_CONCEDED:
+                return "goals_conceded";
+            case LAST_5_GAMES:
+                return "last_5_games";
+            case POINTS:
+                return "points";
+            case LOGO_PATH:
+                return "logo_path";
+            default:
+                throw new IllegalArgumentException("Unknown team field: " + field);
+        }
+    }
+
+    private static void bindInsert(PreparedStatement ps, Team team) throws SQLException {
+        ps.setString(1, team.getName());
+        ps.setInt(2, team.getPlayed());
+        ps.setInt(3, team.getWins());
+        ps.setInt(4, team.getDraws());
+        ps.setInt(5, team.getLosses());
+        ps.setInt(6, team.getGoalDifference());
+        ps.setInt(7, team.getGoalsScored());
+        ps.setInt(8, team.getGoalsConceded());
+        ps.setString(9, team.getLast5Games());
+        ps.setInt(10, team.getPoints());
+        ps.setString(11, team.getLogoPath());
+    }
+
+    // A row of team_stats_pending: the delta and the id its delete is keyed on
+    private static final class PendingStats {
+        private final long id;
+        private final TeamStatsDelta delta;
+
+        private PendingStats(long id, TeamStatsDelta delta) {
+            this.id = id;
+            this.delta = delta;
+        }
+    }
+
+    private static final class PendingStatsRows implements JdbcExecutor.RowMapper<PendingStats> {
+        private final int id;
+        private final int teamId;
+        private final int played;
+        private final int wins;
+        private final int draws;
+        private final int losses;
+        private final int goalsScored;
+        private final int goalsConceded;
+        private final int points;
+        private final int result;
+
+        private PendingStatsRows(ResultSet rs) throws SQLException {
+            id = rs.findColumn("id");
+            teamId = rs.findColumn("team_id");
+            played = rs.findColumn("played");
+            wins = rs.findColumn("wins");
+            draws = rs.findColumn("draws");
+            losses = rs.findColumn("losses");
+            goalsScored = rs.findColumn("goals_scored");
+            goalsConceded = rs.findColumn("goals_conceded");
+            points = rs.findColumn("points");
+            result = rs.findColumn("result");
+        }
+
+        @Override
+        public PendingStats map(ResultSet rs) throws SQLException {
+            return new PendingStats(rs.getLong(id), new TeamStatsDelta(
+                    rs.getInt(teamId),
+                    rs.getInt(played),
+                    rs.getInt(wins),
+                    rs.getInt(draws),
+                    rs.getInt(losses),
+                    rs.getInt(goalsScored),
+                    rs.getInt(goalsConceded),
+                    rs.getInt(points),
+                    rs.getString(result)
+            ));
+        }
+    }
+
+    // Maps team rows by column position, looked up once per result set rather than by name per row
+    private static final class TeamRows implements JdbcExecutor.RowMapper<Team> {
+        private final int id;
+        private final int name;
+        private final int played;
+        private final int wins;
+        private final int draws;
+        private final int losses;
+        private final int goalDifference;
+        private final int goalsScored;
+        private final int goalsConceded;
+        private final int last5Games;
+        private final int points;
+        private final int logoPath;
+        private final int version;
+
+        private TeamRows(ResultSet rs) throws SQLException {
+            id = rs.findColumn("id");
+            name = rs.findColumn("name");
+            played = rs.findColumn("played");
+            wins = rs.findColumn("wins");
+            draws = rs.findColumn("draws");
+            losses = rs.findColumn("losses");
+            goalDifference = rs.findColumn("goal_difference");
+            goalsScored = rs.findColumn("goals_scored");
+            goalsConceded = rs.findColumn("goals_conceded");
+            last5Games = rs.findColumn("last_5_games");
+            points = rs.findColumn("points");
+            logoPath = rs.findColumn("logo_path");
+            version = rs.findColumn("version");
+        }
+
+        @Override
+        public Team map(ResultSet rs) throws SQLException {
+            return new Team(
+                    rs.getInt(id),
+                    rs.getString(name),
+                    rs.getInt(played),
+                    rs.getInt(wins),
+                    rs.getInt(draws),
+                    rs.getInt(losses),
+                    rs.getInt(goalDifference),
+                    rs.getInt(goalsScored),
+                    rs.getInt(goalsConceded),
+                    rs.getString(last5Games),
+                    rs.getInt(points),
+                    rs.getString(logoPath),
+                    rs.getLong(version)
+            );
+        }
+    }
+}
@@ -1,27 +1,46 @@
 package com.example.tournamentbackend.dao.impl;
 
-import com.example.tournamentbackend.config.ConnectionHelper;
+import com.example.tournamentbackend.exception.ConflictException;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
 import com.example.tournamentbackend.model.Tournament;
 import com.example.tournamentbackend.dao.TournamentDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 import org.springframework.stereotype.Repository;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 @Repository
 public class TournamentDaoImpl implements TournamentDao {
 
+    private final DataSource dataSource;
+    private final JdbcExecutor jdbc;
+    private final UpdateStatements<Tournament.Field> updateStatements =
+            new UpdateStatements<>("tournaments", TournamentDaoImpl::column, "updated_at = ?");
+
+    @Autowired
+    public TournamentDaoImpl(DataSource dataSource) {
+        this.dataSource = new TransactionAwareDataSourceProxy(dataSource);
+        this.jdbc = new JdbcExecutor(this.dataSource);
+    }
+
     @Override
     public Tournament save(Tournament tournament) {
-        String sql = "INSERT INTO tournaments (name, start_date, end_date, type, status) VALUES (?, ?, ?, ?, ?)";
+        // RETURNING * hands back defaults and timestamps without a second query
+        String sql = "INSERT INTO tournaments (name, start_date, end_date, type, status) VALUES (?, ?, ?, ?, ?) RETURNING *";
 
-        try (Connection connection = ConnectionHelper.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(sql)) {
 
             ps.setString(1, tournament.getName());
             ps.setDate(2, Date.valueOf(tournament.getStartDate()));
@@ -29,15 +48,11 @@ public class TournamentDaoImpl implements TournamentDao {
             ps.setString(4, tournament.getType() != null ? tournament.getType().toLowerCase() : null);
             ps.setString(5, tournament.getStatus() != null ? tournament.getStatus().toLowerCase() : "upcoming");
 
-            ps.executeUpdate();
-
-            try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    tournament.setId(generatedKeys.getLong(1));
-                    return findById(tournament.getId())
-                            .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournament.getId()));
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    return new TournamentRows(rs).map(rs);
                 } else {
-                    throw new SQLException("Creating tournament failed, no ID obtained.");
+                    throw new SQLException("Creating tournament failed, no row returned.");
                 }
             }
         } catch (SQLException e) {
@@ -48,43 +63,94 @@ public class TournamentDaoImpl implements TournamentDao {
 
     @Override
     public Optional<Tournament> findById(Long id) {
-        String sql = "SELECT * FROM tournaments WHERE id = ?";
+        try {
+            return jdbc.queryOne("SELECT * FROM tournaments WHERE id = ?", ps -> ps.setLong(1, id), TournamentRows::new);
+        } catch (SQLException e) {
+            System.out.println("Error finding tournament: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-        try (Connection connection = ConnectionHelper.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
+    // Row lock held until the surrounding transaction ends; serializes bracket advancement per tournament
+    @Override
+    public void lockById(Long id) {
+        String sql = "SELECT id FROM tournaments WHERE id = ? FOR UPDATE";
 
-            ps.setLong(1, id);
+        try {
+            if (jdbc.queryOne(sql, ps -> ps.setLong(1, id), rs -> row -> row.getLong(1)).isEmpty()) {
+                throw new ResourceNotFoundException("Tournament not found with id: " + id);
+            }
+        } catch (SQLException e) {
+            System.out.println("Error locking tournament: " + e.getMessage());
+            throw new RuntimeException("Error locking tournament", e);
+        }
+    }
 
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapRowToTournament(rs));
-                } else {
-                    return Optional.empty();
-                }
+    // Every write that touches matches locks their tournaments through here before its first match
+    // write, always in id order, so two writers on the same matches queue up instead of deadlocking.
+    // Matches without a tournament need no lock.
+    @Override
+    public void lockAllById(Collection<Long> ids) {
+        TreeSet<Long> ordered = new TreeSet<>();
+        for (Long id : ids) {
+            if (id != null) {
+                ordered.add(id);
             }
+        }
+        for (Long id : ordered) {
+            lockById(id);
+        }
+    }
+
+    // Tournaments the team has matches in, locked in id order like lockAllById
+    @Override
+    public void lockAllByTeamId(int teamId) {
+        String sql = "SELECT id FROM tournaments WHERE id IN "
+                + "(SELECT tournament_id FROM matches WHERE home_team_id = ? OR away_team_id = ?) ORDER BY id FOR UPDATE";
+
+        try {
+            jdbc.query(sql, ps -> {
+                ps.setInt(1, teamId);
+                ps.setInt(2, teamId);
+            }, rs -> row -> row.getLong(1));
         } catch (SQLException e) {
-            System.out.println("Error finding tournament: " + e.getMessage());
-            return Optional.empty();
+            System.out.println("Error locking tournaments: " + e.getMessage());
+            throw new RuntimeException("Error locking tournaments", e);
         }
     }
 
     @Override
     public List<Tournament> findAll() {
-        String sql = "SELECT * FROM tournaments";
-        List<Tournament> tournaments = new ArrayList<>();
+        try {
+            return jdbc.query("SELECT * FROM tournaments", JdbcExecutor.NO_PARAMETERS, TournamentRows::new);
+        } catch (SQLException e) {
+            System.out.println("Error finding all tournaments: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-        try (Connection connection = ConnectionHelper.getConnection();
-             Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
+    @Override
+    public List<Tournament> findPage(Long afterId, int limit) {
+        String sql = "SELECT * FROM tournaments WHERE id > ? ORDER BY id LIMIT ?";
 
-            while (rs.next()) {
-                tournaments.add(mapRowToTournament(rs));
-            }
+        try {
+            return jdbc.query(sql, ps -> {
+                ps.setLong(1, afterId != null ? afterId : 0L);
+                ps.setInt(2, limit);
+            }, TournamentRows::new);
+        } catch (SQLException e) {
+            System.out.println("Error finding tournament page: " + e.getMessage());
+            throw new RuntimeException("Error finding tournament page", e);
+        }
+    }
 
-            return tournaments;
+    @Override
+    public void streamAll(Consumer<Tournament> consumer) {
+        try {
+            jdbc.stream("SELECT * FROM tournaments ORDER BY id", JdbcExecutor.NO_PARAMETERS, TournamentRows::new, consumer);
         } catch (SQLException e) {
-            System.out.println("Error finding all tournaments: " + e.getMessage());
-            return tournaments;
+            System.out.println("Error streaming tournaments: " + e.getMessage());
+            throw new RuntimeException("Error streaming tournaments", e);
         }
     }
 
@@ -97,38 +163,57 @@ public class TournamentDaoImpl implements TournamentDao {
             throw new IllegalArgumentException("Invalid status value: " + tournament.getStatus());
         }
 
-        String sql = "UPDATE tournaments SET name = ?, start_date = ?, end_date = ?, status = ?, updated_at = ? WHERE id = ?";
+        EnumSet<Tournament.Field> changed = tournament.changedFields();
+        if (changed.isEmpty()) {
+            return;
+        }
 
-        try (Connection connection = ConnectionHelper.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
+        // Only the changed columns are written; the version check rejects a stale copy
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement(updateStatements.sqlFor(changed))) {
 
-            ps.setString(1, tournament.getName());
-            ps.setDate(2, Date.valueOf(tournament.getStartDate()));
-            ps.setDate(3, tournament.getEndDate() != null ? Date.valueOf(tournament.getEndDate()) : null);
-            ps.setString(4, status);
-            ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
-            ps.setLong(6, tournament.getId());
+            int index = 1;
+            for (Tournament.Field field : changed) {
+                switch (field) {
+                    case NAME:
+                        ps.setString(index++, tournament.getName());
+                        break;
+                    case START_DATE:
+                        ps.setDate(index++, Date.valueOf(tournament.getStartDate()));
+                        break;
+                    case END_DATE:
+                        ps.setDate(index++, tournament.getEndDate() != null ? Date.valueOf(tournament.getEndDate()) : null);
+                        break;
+                    case STATUS:
+                        ps.setString(index++, status);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown tournament field: " + field);
+                }
+            }
+            ps.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+            ps.setLong(index++, tournament.getId());
+            ps.setLong(index, tournament.getVersion());
 
             int rowsAffected = ps.executeUpdate();
             if (rowsAffected == 0) {
+                if (exists(connection, tournament.getId())) {
+                    throw new ConflictException("Tournament was modified concurrently, id: " + tournament.getId());
+                }
                 throw new ResourceNotFoundException("Tournament not found with id: " + tournament.getId());
             }
         } catch (SQLException e) {
             System.out.println("Error updating tournament: " + e.getMessage());
             throw new RuntimeException("Error updating tournament", e);
         }
+        tournament.setVersion(tournament.getVersion() + 1);
+        tournament.markClean();
     }
 
     @Override
     public void deleteById(Long id) {
-        String sql = "DELETE FROM tournaments WHERE id = ?";
-
-        try (Connection connection = ConnectionHelper.getConnection();
-             PreparedStatement ps = connection.prepareStatement(sql)) {
-
-            ps.setLong(1, id);
-
-            int rowsAffected = ps.executeUpdate();
+        try {
+            int rowsAffected = jdbc.update("DELETE FROM tournaments WHERE id = ?", ps -> ps.setLong(1, id));
             if (rowsAffected == 0) {
                 throw new ResourceNotFoundException("Tournament not found with id: " + id);
             }
@@ -138,29 +223,70 @@ public class TournamentDaoImpl implements TournamentDao {
         }
     }
 
-    private Tournament mapRowToTournament(ResultSet rs) throws SQLException {
-        Tournament tournament = new Tournament();
-        tournament.setId(rs.getLong("id"));
-        tournament.setName(rs.getString("name"));
-        tournament.setStartDate(rs.getDate("start_date").toLocalDate());
+    private static boolean exists(Connection connection, Long id) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT 1 FROM tournaments WHERE id = ?")) {
+            ps.setLong(1, id);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
 
-        Date endDate = rs.getDate("end_date");
-        if (endDate != null) {
-            tournament.setEndDate(endDate.toLocalDate());
+    private static String column(Tournament.Field field) {
+        switch (field) {
+            case NAME:
+                return "name";
+            case START_DATE:
+                return "start_date";
+            case END_DATE:
+                return "end_date";
+            case STATUS:
+                return "status";
+            default:
+                throw new IllegalArgumentException("Unknown tournament field: " + field);
         }
+    }
 
-        tournament.setType(rs.getString("type"));
-        tournament.setStatus(rs.getString("status"));
+    // Maps tournament rows by column position, looked up once per result set rather than by name per row
+    private static final class TournamentRows implements JdbcExecutor.RowMapper<Tournament> {
+        private final int id;
+        private final int name;
+        private final int startDate;
+        private final int endDate;
+        private final int type;
+        private final int status;
+        private final int createdAt;
+        private final int updatedAt;
+        private final int version;
 
-        Timestamp createdAt = rs.getTimestamp("created_at");
-        if (createdAt != null) {
-            tournament.setCreatedAt(createdAt.toLocalDateTime());
+        private TournamentRows(ResultSet rs) throws SQLException {
+            id = rs.findColumn("id");
+            name = rs.findColumn("name");
+            startDate = rs.findColumn("start_date");
+            endDate = rs.findColumn("end_date");
+            type = rs.findColumn("type");
+            status = rs.findColumn("status");
+            createdAt = rs.findColumn("created_at");
+            updatedAt = rs.findColumn("updated_at");
+            version = rs.findColumn("version");
         }
 
-        Timestamp updatedAt = rs.getTimestamp("updated_at");
-        if (updatedAt != null) {
-            tournament.setUpdatedAt(updatedAt.toLocalDateTime());
+        @Override
+        public Tournament map(ResultSet rs) throws SQLException {
+            Date end = rs.getDate(endDate);
+            Timestamp created = rs.getTimestamp(createdAt);
+            Timestamp updated = rs.getTimestamp(updatedAt);
+            return new Tournament(
+                    rs.getLong(id),
+                    rs.getString(name),
+                    rs.getDate(startDate).toLocalDate(),
+                    end != null ? end.toLocalDate() : null,
+                    rs.getString(type),
+                    rs.getString(status),
+                    created != null ? created.toLocalDateTime() : null,
+                    updated != null ? updated.toLocalDateTime() : null,
+                    rs.getLong(version)
+            );
         }
-        return tournament;
     }
-}
\ No newline at end of file
+}
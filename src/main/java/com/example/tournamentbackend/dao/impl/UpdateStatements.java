@@ -0,0 +1,43 @@
+package com.example.tournamentbackend.dao.impl;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Versioned partial UPDATEs for one table. The SQL for each set of changed columns is built once
+// and reused, so the driver sees identical text for identical column sets and can keep the
+// server-side prepared statement for it.
+final class UpdateStatements<F extends Enum<F>> {
+
+    private final String table;
+    private final Function<F, String> column;
+    private final String alwaysSet;
+    private final Map<EnumSet<F>, String> statements = new ConcurrentHashMap<>();
+
+    // alwaysSet holds assignments written on every update (e.g. "updated_at = ?"), or null
+    UpdateStatements(String table, Function<F, String> column, String alwaysSet) {
+        this.table = table;
+        this.column = column;
+        this.alwaysSet = alwaysSet;
+    }
+
+    // Parameters: the changed columns in enum order, then alwaysSet's, then id and expected version
+    String sqlFor(EnumSet<F> fields) {
+        return statements.computeIfAbsent(fields, this::build);
+    }
+
+    private String build(EnumSet<F> fields) {
+        StringJoiner sql = new StringJoiner(", ", "UPDATE " + table + " SET ",
+                " WHERE id = ? AND version = ?");
+        for (F field : fields) {
+            sql.add(column.apply(field) + " = ?");
+        }
+        if (alwaysSet != null) {
+            sql.add(alwaysSet);
+        }
+        sql.add("version = version + 1");
+        return sql.toString();
+    }
+}
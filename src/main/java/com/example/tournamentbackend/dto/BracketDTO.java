@@ -0,0 +1,14 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BracketDTO {
+    private Long tournamentId;
+    private int rounds;
+    private BracketNodeDTO finalMatch;
+}
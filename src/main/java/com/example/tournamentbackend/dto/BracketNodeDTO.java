@@ -0,0 +1,28 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BracketNodeDTO {
+    private int slot;
+    private String round;
+    private Long matchId;
+    private Integer homeTeamId;
+    private String homeTeamName;
+    private Integer awayTeamId;
+    private String awayTeamName;
+    private Integer homeTeamScore;
+    private Integer awayTeamScore;
+    private LocalDateTime matchDate;
+    private String status;
+    private Integer winnerTeamId;
+    // Home-side feeder first; empty for first-round slots
+    private List<BracketNodeDTO> children;
+}
@@ -0,0 +1,13 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureRequestDTO {
+    private String format;
+    private Integer daysBetweenRounds;
+}
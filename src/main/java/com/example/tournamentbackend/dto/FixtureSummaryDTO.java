@@ -0,0 +1,16 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureSummaryDTO {
+    private Long tournamentId;
+    private String format;
+    private int teams;
+    private int rounds;
+    private int matchesCreated;
+}
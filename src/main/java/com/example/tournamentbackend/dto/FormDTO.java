@@ -0,0 +1,24 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormDTO {
+    private int teamId;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsScored;
+    private int goalsConceded;
+    private int points;
+    // Oldest first, like the team's last5Games
+    private String form;
+    private List<FormMatchDTO> matches;
+}
@@ -0,0 +1,22 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One game seen from a single team's side
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FormMatchDTO {
+    private Long matchId;
+    private Long tournamentId;
+    private LocalDateTime matchDate;
+    private int opponentId;
+    private boolean home;
+    private int goalsScored;
+    private int goalsConceded;
+    private String result;
+}
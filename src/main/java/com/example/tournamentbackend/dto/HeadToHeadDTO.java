@@ -0,0 +1,23 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Every counted meeting of two teams, counted from the first team's side
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadToHeadDTO {
+    private int teamId;
+    private int opponentId;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsScored;
+    private int goalsConceded;
+    private List<FormMatchDTO> matches;
+}
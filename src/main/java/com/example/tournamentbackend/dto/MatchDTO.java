@@ -21,4 +21,6 @@ public class MatchDTO {
     private String round;
     private String homeTeamName;
     private String awayTeamName;
+    // Position in a knockout bracket: 1 is the final, slot n is fed by slots 2n and 2n + 1
+    private Integer bracketSlot;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescheduleRoundDTO {
+    private String round;
+    // New kick-off of the round's earliest match; the others keep their spacing from it
+    private LocalDateTime startsAt;
+}
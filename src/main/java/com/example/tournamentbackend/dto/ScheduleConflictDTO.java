@@ -0,0 +1,19 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Two matches of one team whose slots overlap; ids are null for matches not saved yet
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConflictDTO {
+    private int teamId;
+    private Long matchId;
+    private LocalDateTime matchDate;
+    private Long conflictingMatchId;
+    private LocalDateTime conflictingMatchDate;
+}
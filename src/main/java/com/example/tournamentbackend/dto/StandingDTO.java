@@ -0,0 +1,23 @@
+package com.example.tournamentbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingDTO {
+    private int position;
+    private int teamId;
+    private String teamName;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsScored;
+    private int goalsConceded;
+    private int goalDifference;
+    private int points;
+    private String last5Games;
+}
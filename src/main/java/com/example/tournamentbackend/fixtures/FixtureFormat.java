@@ -0,0 +1,27 @@
+package com.example.tournamentbackend.fixtures;
+
+public enum FixtureFormat {
+    ROUND_ROBIN,
+    DOUBLE_ROUND_ROBIN,
+    SINGLE_ELIMINATION;
+
+    // Accepts the explicit format names as well as the tournament types used by the front-end
+    public static FixtureFormat fromType(String type) {
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("Tournament type is required to generate fixtures");
+        }
+        switch (type.trim().toLowerCase().replace('-', '_').replace(' ', '_')) {
+            case "league":
+            case "round_robin":
+                return ROUND_ROBIN;
+            case "double_round_robin":
+                return DOUBLE_ROUND_ROBIN;
+            case "knockout":
+            case "cup":
+            case "single_elimination":
+                return SINGLE_ELIMINATION;
+            default:
+                throw new IllegalArgumentException("Unsupported fixture format: " + type);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.tournamentbackend.fixtures;
+
+import com.example.tournamentbackend.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Builds full schedules for a list of seeded teams. Matches are handed to the sink as they are
+// produced so large round robins never need the whole schedule in memory.
+public final class FixtureGenerator {
+
+    public static final String BYE_STATUS = "bye";
+
+    private static final int BYE = -1;
+
+    private FixtureGenerator() {
+    }
+
+    // Returns the number of rounds in the generated schedule
+    public static int generate(Long tournamentId, List<Integer> teamIds, FixtureFormat format,
+                               LocalDateTime firstRoundDate, int daysBetweenRounds, Consumer<Match> sink) {
+        if (teamIds.size() < 2) {
+            throw new IllegalArgumentException("At least two teams are required to generate fixtures");
+        }
+
+        switch (format) {
+            case ROUND_ROBIN:
+                return roundRobin(tournamentId, teamIds, false, firstRoundDate, daysBetweenRounds, sink);
+            case DOUBLE_ROUND_ROBIN:
+                return roundRobin(tournamentId, teamIds, true, firstRoundDate, daysBetweenRounds, sink);
+            case SINGLE_ELIMINATION:
+                return singleElimination(tournamentId, teamIds, firstRoundDate, sink);
+            default:
+                throw new IllegalArgumentException("Unsupported fixture format: " + format);
+        }
+    }
+
+    // Circle method: the first slot stays fixed while everyone else rotates one place per round
+    private static int roundRobin(Long tournamentId, List<Integer> teamIds, boolean doubleRound,
+                                  LocalDateTime firstRoundDate, int daysBetweenRounds, Consumer<Match> sink) {
+        int size = teamIds.size() % 2 == 0 ? teamIds.size() : teamIds.size() + 1;
+        int[] ring = new int[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = i < teamIds.size() ? teamIds.get(i) : BYE;
+        }
+
+        int roundsPerLeg = size - 1;
+        for (int round = 0; round < roundsPerLeg; round++) {
+            for (int i = 0; i < size / 2; i++) {
+                int first = ring[i];
+                int second = ring[size - 1 - i];
+                if (first == BYE || second == BYE) {
+                    continue;
+                }
+
+                // Alternate the fixed team's venue each round; other pairings alternate by board
+                boolean swap = i == 0 ? round % 2 == 1 : i % 2 == 1;
+                int home = swap ? second : first;
+                int away = swap ? first : second;
+
+                sink.accept(match(tournamentId, home, away, "Matchday " + (round + 1),
+                        firstRoundDate.plusDays((long) round * daysBetweenRounds)));
+                if (doubleRound) {
+                    int returnRound = round + roundsPerLeg;
+                    sink.accept(match(tournamentId, away, home, "Matchday " + (returnRound + 1),
+                            firstRoundDate.plusDays((long) returnRound * daysBetweenRounds)));
+                }
+            }
+
+            int last = ring[size - 1];
+            System.arraycopy(ring, 1, ring, 2, size - 2);
+            ring[1] = last;
+        }
+
+        return doubleRound ? roundsPerLeg * 2 : roundsPerLeg;
+    }
+
+    // Seeds are placed in standard bracket order so the top seeds take the byes and can only meet late.
+    // Only the first round is created; later rounds are added as results come in. Each first-round
+    // match gets its bracket slot, and a bye is stored as a "bye" row with the team on both sides so
+    // the bracket can always be rebuilt from the matches table.
+    private static int singleElimination(Long tournamentId, List<Integer> teamIds, LocalDateTime firstRoundDate,
+                                         Consumer<Match> sink) {
+        int bracketSize = Integer.highestOneBit(teamIds.size() - 1) << 1;
+        int[] seeds = bracketOrder(bracketSize);
+        String roundName = roundName(bracketSize);
+
+        for (int i = 0; i < bracketSize; i += 2) {
+            int homeSeed = seeds[i];
+            int awaySeed = seeds[i + 1];
+            int slot = bracketSize / 2 + i / 2;
+
+            Match match;
+            if (awaySeed > teamIds.size()) {
+                int team = teamIds.get(homeSeed - 1);
+                match = match(tournamentId, team, team, roundName, firstRoundDate);
+                match.setStatus(BYE_STATUS);
+            } else {
+                match = match(tournamentId, teamIds.get(homeSeed - 1), teamIds.get(awaySeed - 1),
+                        roundName, firstRoundDate);
+            }
+            match.setBracketSlot(slot);
+            sink.accept(match);
+        }
+
+        return Integer.numberOfTrailingZeros(bracketSize);
+    }
+
+    // 1-based seeds in bracket order, e.g. 8 -> [1, 8, 4, 5, 2, 7, 3, 6]
+    static int[] bracketOrder(int bracketSize) {
+        int[] order = {1};
+        while (order.length < bracketSize) {
+            int size = order.length * 2;
+            int[] next = new int[size];
+            for (int i = 0; i < order.length; i++) {
+                next[i * 2] = order[i];
+                next[i * 2 + 1] = size + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    public static String roundName(int teamsInRound) {
+        switch (teamsInRound) {
+            case 2:
+                return "Final";
+            case 4:
+                return "Semi-final";
+            case 8:
+                return "Quarter-final";
+            default:
+                return "Round of " + teamsInRound;
+        }
+    }
+
+    private static Match match(Long tournamentId, int homeTeamId, int awayTeamId, String round, LocalDateTime date) {
+        Match match = new Match();
+        match.setTournamentId(tournamentId);
+        match.setHomeTeamId(homeTeamId);
+        match.setAwayTeamId(awayTeamId);
+        match.setMatchDate(date);
+        match.setStatus("scheduled");
+        match.setRound(round);
+        return match;
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.tournamentbackend.form;
+
+import com.example.tournamentbackend.dto.FormDTO;
+import com.example.tournamentbackend.dto.FormMatchDTO;
+import com.example.tournamentbackend.dto.HeadToHeadDTO;
+import com.example.tournamentbackend.model.Match;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+// Counted results of one team in kick-off order, kept in parallel primitive arrays. Instances never
+// change: a result change produces a copy, so readers can use whatever instance they were handed
+// without locking. Each result is packed into one long:
+//   opponent id (bits 32-63) | home flag (bit 31) | goals scored (bits 16-30) | goals conceded (bits 0-15)
+// and a second array of (opponent id << 32 | position) keys, sorted, finds all meetings with one
+// opponent by binary search.
+public final class TeamHistory {
+
+    // Matches without a date sort last, as they do in the matches query
+    private static final long NO_DATE = Long.MAX_VALUE;
+    private static final long NO_TOURNAMENT = 0L;
+    private static final long HOME_FLAG = 1L << 31;
+    private static final int GOAL_MASK = 0x7FFF;
+
+    private static final Comparator<Match> KICK_OFF_ORDER =
+            Comparator.comparingLong((Match match) -> kickoffOf(match)).thenComparingLong(Match::getId);
+
+    private final int teamId;
+    private final long[] kickoffs;
+    private final long[] matchIds;
+    private final long[] tournamentIds;
+    private final long[] results;
+    private final long[] byOpponent;
+
+    private TeamHistory(int teamId, long[] kickoffs, long[] matchIds, long[] tournamentIds, long[] results) {
+        this.teamId = teamId;
+        this.kickoffs = kickoffs;
+        this.matchIds = matchIds;
+        this.tournamentIds = tournamentIds;
+        this.results = results;
+        this.byOpponent = new long[results.length];
+        for (int i = 0; i < results.length; i++) {
+            byOpponent[i] = (results[i] & 0xFFFFFFFF00000000L) | i;
+        }
+        Arrays.sort(byOpponent);
+    }
+
+    // Anything that is not a counted result of this team is left out
+    public static TeamHistory of(int teamId, List<Match> matches) {
+        List<Match> counted = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            if (isCounted(match) && involves(match, teamId)) {
+                counted.add(match);
+            }
+        }
+        counted.sort(KICK_OFF_ORDER);
+
+        int size = counted.size();
+        long[] kickoffs = new long[size];
+        long[] matchIds = new long[size];
+        long[] tournamentIds = new long[size];
+        long[] results = new long[size];
+        for (int i = 0; i < size; i++) {
+            Match match = counted.get(i);
+            kickoffs[i] = kickoffOf(match);
+            matchIds[i] = match.getId();
+            tournamentIds[i] = tournamentOf(match);
+            results[i] = pack(match, teamId);
+        }
+        return new TeamHistory(teamId, kickoffs, matchIds, tournamentIds, results);
+    }
+
+    public int getTeamId() {
+        return teamId;
+    }
+
+    public int size() {
+        return matchIds.length;
+    }
+
+    // The history with the match's current state: any earlier version of it is dropped, and it is
+    // put back in kick-off order only if it is still a counted result of this team
+    public TeamHistory with(Match match) {
+        TeamHistory history = without(match.getId());
+        if (!isCounted(match) || !involves(match, teamId)) {
+            return history;
+        }
+        return history.insert(match);
+    }
+
+    public TeamHistory without(long matchId) {
+        int index = indexOf(matchId);
+        if (index < 0) {
+            return this;
+        }
+        return new TeamHistory(teamId, remove(kickoffs, index), remove(matchIds, index),
+                remove(tournamentIds, index), remove(results, index));
+    }
+
+    // The last n counted results, oldest first
+    public FormDTO form(int n) {
+        int from = Math.max(0, size() - n);
+        Summary summary = new Summary();
+        for (int i = from; i < size(); i++) {
+            summary.add(i);
+        }
+        return new FormDTO(teamId, summary.played, summary.wins, summary.draws, summary.losses,
+                summary.goalsScored, summary.goalsConceded, summary.wins * 3 + summary.draws,
+                summary.form.toString(), summary.matches);
+    }
+
+    // All counted meetings with one opponent, oldest first
+    public HeadToHeadDTO against(int opponentId) {
+        long low = (long) opponentId << 32;
+        int start = lowerBound(byOpponent, low);
+        int end = lowerBound(byOpponent, low + (1L << 32));
+
+        // Positions sort within one opponent, so the meetings come out in kick-off order
+        Summary summary = new Summary();
+        for (int i = start; i < end; i++) {
+            summary.add((int) byOpponent[i]);
+        }
+        return new HeadToHeadDTO(teamId, opponentId, summary.played, summary.wins, summary.draws, summary.losses,
+                summary.goalsScored, summary.goalsConceded, summary.matches);
+    }
+
+    private TeamHistory insert(Match match) {
+        long kickoff = kickoffOf(match);
+        long matchId = match.getId();
+        int index = 0;
+        int high = size();
+        while (index < high) {
+            int mid = (index + high) >>> 1;
+            if (kickoffs[mid] < kickoff || (kickoffs[mid] == kickoff && matchIds[mid] < matchId)) {
+                index = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return new TeamHistory(teamId, insert(kickoffs, index, kickoff), insert(matchIds, index, matchId),
+                insert(tournamentIds, index, tournamentOf(match)), insert(results, index, pack(match, teamId)));
+    }
+
+    // Match ids are not in date order, so this is a scan; it only runs when a result changes
+    private int indexOf(long matchId) {
+        for (int i = 0; i < matchIds.length; i++) {
+            if (matchIds[i] == matchId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private FormMatchDTO toEntry(int index) {
+        long packed = results[index];
+        int goalsScored = (int) (packed >>> 16) & GOAL_MASK;
+        int goalsConceded = (int) packed & GOAL_MASK;
+        LocalDateTime matchDate = kickoffs[index] == NO_DATE ? null
+                : LocalDateTime.ofEpochSecond(kickoffs[index], 0, ZoneOffset.UTC);
+        Long tournamentId = tournamentIds[index] == NO_TOURNAMENT ? null : tournamentIds[index];
+        return new FormMatchDTO(matchIds[index], tournamentId, matchDate, (int) (packed >>> 32),
+                (packed & HOME_FLAG) != 0, goalsScored, goalsConceded, resultOf(goalsScored, goalsConceded));
+    }
+
+    private static long pack(Match match, int teamId) {
+        boolean home = match.getHomeTeamId() == teamId;
+        int opponentId = home ? match.getAwayTeamId() : match.getHomeTeamId();
+        int goalsScored = home ? match.getHomeTeamScore() : match.getAwayTeamScore();
+        int goalsConceded = home ? match.getAwayTeamScore() : match.getHomeTeamScore();
+        return (long) opponentId << 32
+                | (home ? HOME_FLAG : 0L)
+                | (long) (Math.min(goalsScored, GOAL_MASK) & GOAL_MASK) << 16
+                | (Math.min(goalsConceded, GOAL_MASK) & GOAL_MASK);
+    }
+
+    private static long kickoffOf(Match match) {
+        return match.getMatchDate() == null ? NO_DATE : match.getMatchDate().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long tournamentOf(Match match) {
+        return match.getTournamentId() == null ? NO_TOURNAMENT : match.getTournamentId();
+    }
+
+    private static String resultOf(int goalsScored, int goalsConceded) {
+        if (goalsScored > goalsConceded) {
+            return "W";
+        }
+        return goalsScored < goalsConceded ? "L" : "D";
+    }
+
+    // Same rule as team stats and standings; byes have the team on both sides and never count
+    private static boolean isCounted(Match match) {
+        return match != null
+                && match.getId() != null
+                && "completed".equalsIgnoreCase(match.getStatus())
+                && match.getHomeTeamScore() != null
+                && match.getAwayTeamScore() != null
+                && match.getHomeTeamId() != match.getAwayTeamId();
+    }
+
+    private static boolean involves(Match match, int teamId) {
+        return match.getHomeTeamId() == teamId || match.getAwayTeamId() == teamId;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long[] insert(long[] values, int index, long value) {
+        long[] copy = new long[values.length + 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        copy[index] = value;
+        System.arraycopy(values, index, copy, index + 1, values.length - index);
+        return copy;
+    }
+
+    private static long[] remove(long[] values, int index) {
+        long[] copy = new long[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, index);
+        System.arraycopy(values, index + 1, copy, index, values.length - index - 1);
+        return copy;
+    }
+
+    private final class Summary {
+        private int played;
+        private int wins;
+        private int draws;
+        private int losses;
+        private int goalsScored;
+        private int goalsConceded;
+        private final StringBuilder form = new StringBuilder();
+        private final List<FormMatchDTO> matches = new ArrayList<>();
+
+        private void add(int index) {
+            FormMatchDTO entry = toEntry(index);
+            played++;
+            goalsScored += entry.getGoalsScored();
+            goalsConceded += entry.getGoalsConceded();
+            switch (entry.getResult()) {
+                case "W":
+                    wins++;
+                    break;
+                case "D":
+                    draws++;
+                    break;
+                default:
+                    losses++;
+                    break;
+            }
+            form.append(entry.getResult());
+            matches.add(entry);
+        }
+    }
+}
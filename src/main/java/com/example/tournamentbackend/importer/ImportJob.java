@@ -0,0 +1,74 @@
+package com.example.tournamentbackend.importer;
+
+import com.example.tournamentbackend.dto.ImportErrorDTO;
+import com.example.tournamentbackend.dto.ImportJobDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Progress of one running or finished import; updated by the worker and read by status requests
+public class ImportJob {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final String id = UUID.randomUUID().toString();
+    private final String type;
+    private final List<ImportErrorDTO> errors = new ArrayList<>();
+    private String status = "queued";
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsFailed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureReason;
+
+    public ImportJob(String type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public synchronized boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public synchronized void start() {
+        status = "running";
+        startedAt = LocalDateTime.now();
+    }
+
+    public synchronized void rowRead() {
+        rowsRead++;
+    }
+
+    public synchronized void rowsImported(int count) {
+        rowsImported += count;
+    }
+
+    public synchronized void rowFailed(long row, String message) {
+        rowsFailed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportErrorDTO(row, message));
+        }
+    }
+
+    public synchronized void complete() {
+        status = "completed";
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized void fail(String reason) {
+        status = "failed";
+        failureReason = reason;
+        finishedAt = LocalDateTime.now();
+    }
+
+    public synchronized ImportJobDTO toDTO() {
+        return new ImportJobDTO(id, type, status, rowsRead, rowsImported, rowsFailed,
+                startedAt, finishedAt, failureReason, new ArrayList<>(errors));
+    }
+}
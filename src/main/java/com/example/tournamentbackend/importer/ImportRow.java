@@ -0,0 +1,18 @@
+package com.example.tournamentbackend.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+public class ImportRow {
+    private long rowNumber;
+    private Map<String, String> fields;
+
+    public String get(String field) {
+        String value = fields.get(field);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
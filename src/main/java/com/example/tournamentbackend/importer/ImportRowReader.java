@@ -0,0 +1,124 @@
+package com.example.tournamentbackend.importer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Reads one row at a time from a CSV (header line required, no embedded newlines) or NDJSON upload
+public class ImportRowReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long rowNumber;
+
+    public ImportRowReader(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    // Returns null once the input is exhausted; malformed lines surface as IllegalArgumentException
+    public ImportRow next() throws IOException {
+        if (format == ImportFormat.CSV && header == null) {
+            String headerLine = nextNonBlankLine();
+            if (headerLine == null) {
+                return null;
+            }
+            header = new ArrayList<>();
+            for (String column : parseCsvLine(headerLine)) {
+                header.add(column.trim());
+            }
+        }
+
+        String line = nextNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        rowNumber++;
+
+        Map<String, String> fields = new HashMap<>();
+        if (format == ImportFormat.CSV) {
+            List<String> values = parseCsvLine(line);
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+        } else {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Row " + rowNumber + ": invalid JSON", e);
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Row " + rowNumber + ": expected a JSON object");
+            }
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                fields.put(entry.getKey(), entry.getValue().isNull() ? null : entry.getValue().asText());
+            }
+        }
+        return new ImportRow(rowNumber, fields);
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.tournamentbackend.live;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Live feed of one tournament. Updates are held as pending, keyed by match, until the next flush,
+// so a burst of edits to the same match goes out as a single event. Flushed events are kept in a
+// bounded history that reconnecting clients replay from.
+//
+// Event ids are "<epoch>-<sequence>"; the epoch changes on restart so stale tokens are detected.
+// Callers that need replay and delivery to be atomic synchronize on the channel itself.
+public class LiveChannel<S> {
+
+    private final String epoch;
+    private final int historySize;
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+    private final Map<Long, LiveEvent> pending = new LinkedHashMap<>();
+    private final Set<S> subscribers = new LinkedHashSet<>();
+    private long sequence;
+
+    public LiveChannel(String epoch, int historySize) {
+        this.epoch = epoch;
+        this.historySize = historySize;
+    }
+
+    // A newer update for the same key replaces the pending one
+    public synchronized void offer(long key, String name, Object data) {
+        pending.put(key, new LiveEvent(null, name, data));
+    }
+
+    public synchronized List<LiveEvent> flush() {
+        if (pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<LiveEvent> flushed = new ArrayList<>(pending.size());
+        for (LiveEvent event : pending.values()) {
+            long next = ++sequence;
+            LiveEvent numbered = new LiveEvent(epoch + "-" + next, event.getName(), event.getData());
+            history.addLast(new Entry(next, numbered));
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            flushed.add(numbered);
+        }
+        pending.clear();
+        return flushed;
+    }
+
+    // Events after the given token, or null when the client missed more than the history holds
+    public synchronized List<LiveEvent> eventsAfter(String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (last > sequence) {
+            return null;
+        }
+
+        long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence;
+        if (last < oldest - 1) {
+            return null;
+        }
+
+        List<LiveEvent> missed = new ArrayList<>();
+        for (Entry entry : history) {
+            if (entry.sequence > last) {
+                missed.add(entry.event);
+            }
+        }
+        return missed;
+    }
+
+    public synchronized void addSubscriber(S subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public synchronized void removeSubscriber(S subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    public synchronized List<S> getSubscribers() {
+        return new ArrayList<>(subscribers);
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final LiveEvent event;
+
+        private Entry(long sequence, LiveEvent event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
+    }
+}
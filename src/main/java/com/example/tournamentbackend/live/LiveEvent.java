@@ -0,0 +1,27 @@
+package com.example.tournamentbackend.live;
+
+// One entry of a tournament's live feed; the id doubles as the client's resume token
+public final class LiveEvent {
+
+    private final String id;
+    private final String name;
+    private final Object data;
+
+    public LiveEvent(String id, String name, Object data) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Object getData() {
+        return data;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.tournamentbackend.logo;
+
+import java.nio.file.Path;
+
+// Everything needed to answer a logo request without going back to the database
+public final class LogoFile {
+
+    private final Path path;
+    private final String contentType;
+    private final long size;
+    private final long lastModified;
+    private final String etag;
+
+    public LogoFile(Path path, String contentType, long size, long lastModified, String etag) {
+        this.path = path;
+        this.contentType = contentType;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.etag = etag;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.tournamentbackend.logo;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+// Fixed thumbnail sizes for team logos and the scaling used to produce them
+public final class LogoThumbnails {
+
+    public static final int[] SIZES = {32, 64, 256};
+    public static final String FORMAT = "png";
+
+    private LogoThumbnails() {
+    }
+
+    // Smallest variant at least as large as requested, or null when only the original will do
+    public static Integer variantFor(Integer requestedSize) {
+        if (requestedSize == null) {
+            return null;
+        }
+        for (int size : SIZES) {
+            if (size >= requestedSize) {
+                return size;
+            }
+        }
+        return null;
+    }
+
+    // e.g. "3f9a...c1.jpg" at 64 -> "3f9a...c1_64.png"
+    public static String variantName(String logoFileName, int size) {
+        int dot = logoFileName.lastIndexOf('.');
+        String base = dot > 0 ? logoFileName.substring(0, dot) : logoFileName;
+        return base + "_" + size + "." + FORMAT;
+    }
+
+    // Fits the image inside a size x size box keeping its aspect ratio; small images are never enlarged.
+    // Large reductions are done in halving steps, which keeps bilinear filtering from dropping detail.
+    public static BufferedImage scale(BufferedImage source, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.tournamentbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+// Times every DAO call, counts the rows it returns and logs calls slower than the threshold
+@Aspect
+@Component
+public class DaoMetricsAspect {
+
+    private static final Logger log = LoggerFactory.getLogger("slow-query");
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+
+    @Autowired
+    public DaoMetricsAspect(MeterRegistry meterRegistry,
+                            @Value("${metrics.slow-query-threshold-ms:200}") long slowQueryThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMs);
+    }
+
+    @Around("within(com.example.tournamentbackend.dao.impl..*) && execution(public * *(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String dao = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String outcome = "success";
+        long start = System.nanoTime();
+        Object result = null;
+
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            Timer.builder("dao.query")
+                    .description("DAO method execution time")
+                    .tag("dao", dao)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            long rows = rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder("dao.rows")
+                        .description("Rows returned per DAO call")
+                        .tag("dao", dao)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+
+            if (elapsed > slowQueryThresholdNanos) {
+                log.warn("Slow DAO call {}.{}({}) took {} ms", dao, method,
+                        argumentShapes(joinPoint.getArgs()), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    // Argument types and collection sizes only: the values are entities and id lists that have no
+    // place in a log, and are at their largest exactly when calls are slow
+    private static String argumentShapes(Object[] args) {
+        StringJoiner shapes = new StringJoiner(", ");
+        for (Object arg : args) {
+            if (arg == null) {
+                shapes.add("null");
+            } else if (arg instanceof Collection<?> collection) {
+                shapes.add(arg.getClass().getSimpleName() + "[" + collection.size() + "]");
+            } else if (arg instanceof Map<?, ?> map) {
+                shapes.add(arg.getClass().getSimpleName() + "[" + map.size() + "]");
+            } else if (arg.getClass().isArray()) {
+                shapes.add(arg.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(arg) + "]");
+            } else {
+                shapes.add(arg.getClass().getSimpleName());
+            }
+        }
+        return shapes.toString();
+    }
+
+    private long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.tournamentbackend.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Wraps the pool so every physical checkout is attributed to the request that made it
+public class MeteredDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public MeteredDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ConnectionCounter.increment();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        ConnectionCounter.increment();
+        return super.getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
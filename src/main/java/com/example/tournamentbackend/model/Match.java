@@ -1,10 +1,16 @@
 package com.example.tournamentbackend.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
 
 @Data
 @NoArgsConstructor
@@ -21,4 +27,74 @@ public class Match {
     private String round;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+    private String homeTeamName;
+    private String awayTeamName;
+    // Position in a knockout bracket: 1 is the final, slot n is fed by slots 2n and 2n + 1
+    private Integer bracketSlot;
+    // Bumped by every write; an update carrying an older version is rejected
+    private long version;
+
+    // Columns changed through the setters since the match was loaded; the DAO only writes these
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+
+    public enum Field {
+        TOURNAMENT_ID, HOME_TEAM_ID, AWAY_TEAM_ID, HOME_TEAM_SCORE, AWAY_TEAM_SCORE, MATCH_DATE, STATUS, ROUND
+    }
+
+    public EnumSet<Field> changedFields() {
+        return changed.clone();
+    }
+
+    public void markClean() {
+        changed.clear();
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        track(Field.TOURNAMENT_ID, !Objects.equals(this.tournamentId, tournamentId));
+        this.tournamentId = tournamentId;
+    }
+
+    public void setHomeTeamId(int homeTeamId) {
+        track(Field.HOME_TEAM_ID, this.homeTeamId != homeTeamId);
+        this.homeTeamId = homeTeamId;
+    }
+
+    public void setAwayTeamId(int awayTeamId) {
+        track(Field.AWAY_TEAM_ID, this.awayTeamId != awayTeamId);
+        this.awayTeamId = awayTeamId;
+    }
+
+    public void setHomeTeamScore(Integer homeTeamScore) {
+        track(Field.HOME_TEAM_SCORE, !Objects.equals(this.homeTeamScore, homeTeamScore));
+        this.homeTeamScore = homeTeamScore;
+    }
+
+    public void setAwayTeamScore(Integer awayTeamScore) {
+        track(Field.AWAY_TEAM_SCORE, !Objects.equals(this.awayTeamScore, awayTeamScore));
+        this.awayTeamScore = awayTeamScore;
+    }
+
+    public void setMatchDate(LocalDateTime matchDate) {
+        track(Field.MATCH_DATE, !Objects.equals(this.matchDate, matchDate));
+        this.matchDate = matchDate;
+    }
+
+    public void setStatus(String status) {
+        track(Field.STATUS, !Objects.equals(this.status, status));
+        this.status = status;
+    }
+
+    public void setRound(String round) {
+        track(Field.ROUND, !Objects.equals(this.round, round));
+        this.round = round;
+    }
+
+    private void track(Field field, boolean differs) {
+        if (differs) {
+            changed.add(field);
+        }
+    }
+}
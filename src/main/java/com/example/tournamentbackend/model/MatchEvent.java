@@ -0,0 +1,28 @@
+package com.example.tournamentbackend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One entry in the append-only result log. Events carry the match's result after the change;
+// a voided event has no scores. Ids increase in commit order within a tournament.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchEvent {
+    public static final String RECORDED = "recorded";
+    public static final String CORRECTED = "corrected";
+    public static final String VOIDED = "voided";
+
+    private Long id;
+    private Long matchId;
+    private Long tournamentId;
+    private String type;
+    private int homeTeamId;
+    private int awayTeamId;
+    private Integer homeTeamScore;
+    private Integer awayTeamScore;
+    private LocalDateTime createdAt;
+}
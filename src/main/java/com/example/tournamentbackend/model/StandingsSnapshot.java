@@ -0,0 +1,18 @@
+package com.example.tournamentbackend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingsSnapshot {
+    private Long tournamentId;
+    // Every event up to and including this id is reflected in the state
+    private long lastEventId;
+    private String state;
+    private LocalDateTime createdAt;
+}
@@ -1,8 +1,15 @@
 package com.example.tournamentbackend.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.EnumSet;
+import java.util.Objects;
 
 @Data
 @AllArgsConstructor
@@ -20,4 +27,86 @@ public class Team {
     private String last5Games;
     private int points;
     private String logoPath;
-}
\ No newline at end of file
+    // Bumped by every write; an update carrying an older version is rejected
+    private long version;
+
+    // Columns changed through the setters since the team was loaded; the DAO only writes these
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+
+    public enum Field {
+        NAME, PLAYED, WINS, DRAWS, LOSSES, GOAL_DIFFERENCE, GOALS_SCORED, GOALS_CONCEDED, LAST_5_GAMES, POINTS,
+        LOGO_PATH
+    }
+
+    public EnumSet<Field> changedFields() {
+        return changed.clone();
+    }
+
+    public void markClean() {
+        changed.clear();
+    }
+
+    public void setName(String name) {
+        track(Field.NAME, !Objects.equals(this.name, name));
+        this.name = name;
+    }
+
+    public void setPlayed(int played) {
+        track(Field.PLAYED, this.played != played);
+        this.played = played;
+    }
+
+    public void setWins(int wins) {
+        track(Field.WINS, this.wins != wins);
+        this.wins = wins;
+    }
+
+    public void setDraws(int draws) {
+        track(Field.DRAWS, this.draws != draws);
+        this.draws = draws;
+    }
+
+    public void setLosses(int losses) {
+        track(Field.LOSSES, this.losses != losses);
+        this.losses = losses;
+    }
+
+    public void setGoalDifference(int goalDifference) {
+        track(Field.GOAL_DIFFERENCE, this.goalDifference != goalDifference);
+        this.goalDifference = goalDifference;
+    }
+
+    public void setGoalsScored(int goalsScored) {
+        track(Field.GOALS_SCORED, this.goalsScored != goalsScored);
+        this.goalsScored = goalsScored;
+    }
+
+    public void setGoalsConceded(int goalsConceded) {
+        track(Field.GOALS_CONCEDED, this.goalsConceded != goalsConceded);
+        this.goalsConceded = goalsConceded;
+    }
+
+    public void setLast5Games(String last5Games) {
+        track(Field.LAST_5_GAMES, !Objects.equals(this.last5Games, last5Games));
+        this.last5Games = last5Games;
+    }
+
+    public void setPoints(int points) {
+        track(Field.POINTS, this.points != points);
+        this.points = points;
+    }
+
+    public void setLogoPath(String logoPath) {
+        track(Field.LOGO_PATH, !Objects.equals(this.logoPath, logoPath));
+        this.logoPath = logoPath;
+    }
+
+    private void track(Field field, boolean differs) {
+        if (differs) {
+            changed.add(field);
+        }
+    }
+}
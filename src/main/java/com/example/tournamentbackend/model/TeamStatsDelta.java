@@ -0,0 +1,91 @@
+package com.example.tournamentbackend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamStatsDelta {
+    private int teamId;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsScored;
+    private int goalsConceded;
+    private int points;
+    // Letters appended to the form guide in order; empty for corrections, which leave the form alone
+    private String result;
+
+    public static List<TeamStatsDelta> forMatch(int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        String homeResult;
+        String awayResult;
+
+        if (homeScore > awayScore) {
+            homeResult = "W";
+            awayResult = "L";
+        } else if (homeScore < awayScore) {
+            homeResult = "L";
+            awayResult = "W";
+        } else {
+            homeResult = "D";
+            awayResult = "D";
+        }
+
+        return List.of(
+                fromResult(homeTeamId, homeScore, awayScore, homeResult),
+                fromResult(awayTeamId, awayScore, homeScore, awayResult)
+        );
+    }
+
+    public static TeamStatsDelta fromResult(int teamId, int goalsScored, int goalsConceded, String result) {
+        switch (result) {
+            case "W":
+                return new TeamStatsDelta(teamId, 1, 1, 0, 0, goalsScored, goalsConceded, 3, result);
+            case "D":
+                return new TeamStatsDelta(teamId, 1, 0, 1, 0, goalsScored, goalsConceded, 1, result);
+            case "L":
+                return new TeamStatsDelta(teamId, 1, 0, 0, 1, goalsScored, goalsConceded, 0, result);
+            default:
+                throw new IllegalArgumentException("Invalid match result: " + result);
+        }
+    }
+
+    // Combines two deltas for the same team into one covering both, this one first
+    public TeamStatsDelta merge(TeamStatsDelta later) {
+        if (later.teamId != teamId) {
+            throw new IllegalArgumentException("Cannot merge stats of team " + later.teamId + " into team " + teamId);
+        }
+        return new TeamStatsDelta(teamId, played + later.played, wins + later.wins, draws + later.draws,
+                losses + later.losses, goalsScored + later.goalsScored, goalsConceded + later.goalsConceded,
+                points + later.points, result + later.result);
+    }
+
+    // Takes a counted result back out again. The form guide cannot be unwound by increments, so the
+    // letter stays; per-tournament standings are rebuilt exactly from the match event log instead.
+    public TeamStatsDelta reversed() {
+        return new TeamStatsDelta(teamId, -played, -wins, -draws, -losses, -goalsScored, -goalsConceded, -points, "");
+    }
+
+    public TeamStatsDelta withoutForm() {
+        return new TeamStatsDelta(teamId, played, wins, draws, losses, goalsScored, goalsConceded, points, "");
+    }
+
+    public Team applyTo(Team team) {
+        String last5 = (team.getLast5Games() != null ? team.getLast5Games() : "") + result;
+        team.setPlayed(team.getPlayed() + played);
+        team.setWins(team.getWins() + wins);
+        team.setDraws(team.getDraws() + draws);
+        team.setLosses(team.getLosses() + losses);
+        team.setGoalsScored(team.getGoalsScored() + goalsScored);
+        team.setGoalsConceded(team.getGoalsConceded() + goalsConceded);
+        team.setGoalDifference(team.getGoalDifference() + goalsScored - goalsConceded);
+        team.setPoints(team.getPoints() + points);
+        team.setLast5Games(last5.substring(Math.max(0, last5.length() - 5)));
+        return team;
+    }
+}
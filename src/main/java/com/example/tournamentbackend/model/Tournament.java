@@ -1,11 +1,17 @@
 package com.example.tournamentbackend.model;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Objects;
 
 @Data
 @NoArgsConstructor
@@ -19,4 +25,51 @@ public class Tournament {
     private String status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    // Bumped by every write; an update carrying an older version is rejected
+    private long version;
+
+    // Columns changed through the setters since the tournament was loaded; the DAO only writes
+    // these. The type is fixed once the tournament is created.
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final EnumSet<Field> changed = EnumSet.noneOf(Field.class);
+
+    public enum Field {
+        NAME, START_DATE, END_DATE, STATUS
+    }
+
+    public EnumSet<Field> changedFields() {
+        return changed.clone();
+    }
+
+    public void markClean() {
+        changed.clear();
+    }
+
+    public void setName(String name) {
+        track(Field.NAME, !Objects.equals(this.name, name));
+        this.name = name;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        track(Field.START_DATE, !Objects.equals(this.startDate, startDate));
+        this.startDate = startDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        track(Field.END_DATE, !Objects.equals(this.endDate, endDate));
+        this.endDate = endDate;
+    }
+
+    public void setStatus(String status) {
+        track(Field.STATUS, !Objects.equals(this.status, status));
+        this.status = status;
+    }
+
+    private void track(Field field, boolean differs) {
+        if (differs) {
+            changed.add(field);
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package com.example.tournamentbackend.routing;
+
+import java.util.function.Supplier;
+
+// Per-thread routing hints, read by ReadRoutingDataSource when a connection is checked out.
+// Connections are primary unless a replica read is marked and nothing pinned the thread to the primary.
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> false);
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> false);
+
+    private ReadRouting() {
+    }
+
+    // Loads that seed in-memory state kept current from committed writes must not start out behind
+    // those writes, so they read from the primary
+    public static <T> T onPrimary(Supplier<T> load) {
+        boolean previous = pinToPrimary();
+        try {
+            return load.get();
+        } finally {
+            unpin(previous);
+        }
+    }
+
+    static boolean isReplicaRead() {
+        return REPLICA_READ.get() && !PRIMARY_ONLY.get();
+    }
+
+    static boolean startReplicaRead() {
+        boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(true);
+        return previous;
+    }
+
+    static void endReplicaRead(boolean previous) {
+        REPLICA_READ.set(previous);
+    }
+
+    static boolean pinToPrimary() {
+        boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(true);
+        return previous;
+    }
+
+    static void unpin(boolean previous) {
+        PRIMARY_ONLY.set(previous);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tournamentbackend.routing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Marks team, match and tournament reads as replica reads. Inside a transaction the connection is
+// already bound to the primary, so reads that are part of a write, such as recording a result,
+// always see the primary.
+@Aspect
+@Component
+public class ReadRoutingAspect {
+
+    @Around("(target(com.example.tournamentbackend.dao.TeamDao) || target(com.example.tournamentbackend.dao.MatchDao)"
+            + " || target(com.example.tournamentbackend.dao.TournamentDao))"
+            + " && (execution(public * find*(..)) || execution(public * count*(..)) || execution(public * stream*(..)))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        boolean previous = ReadRouting.startReplicaRead();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReadRouting.endReplicaRead(previous);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.tournamentbackend.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Hands replica reads (see ReadRouting) a replica connection and everything else a primary one.
+// The replica's replay lag is checked on a schedule; while it is further behind than maxLagMs,
+// fails the check or cannot hand out a connection, its reads go to the primary instead.
+public class ReadRoutingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    // Zero when everything received has been replayed, so an idle primary does not look like lag.
+    // Also zero when pointed at a server that is not in recovery.
+    private static final String LAG_SQL = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() "
+            + "THEN 0 ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final DataSource replica;
+    private final long maxLagMs;
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor();
+    private final Counter fallbacks;
+    private volatile long lagMs = -1;
+    private volatile boolean replicaUsable;
+
+    public ReadRoutingDataSource(DataSource primary, DataSource replica, long maxLagMs, long lagCheckMs,
+                                 MeterRegistry meterRegistry) {
+        super(primary);
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+
+        Gauge.builder("db.replica.lag", this, routing -> routing.lagMs).baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.usable", this, routing -> routing.replicaUsable ? 1 : 0).register(meterRegistry);
+        this.fallbacks = Counter.builder("db.replica.fallbacks")
+                .description("Replica reads sent to the primary").register(meterRegistry);
+
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, lagCheckMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!ReadRouting.isReplicaRead()) {
+            return super.getConnection();
+        }
+        if (replicaUsable) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                // Stays on the primary until the next lag check reaches the replica again
+                replicaUsable = false;
+                System.out.println("Replica unavailable, reading from primary: " + e.getMessage());
+            }
+        }
+        fallbacks.increment();
+        return super.getConnection();
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagChecker.shutdownNow();
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void checkLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            lagMs = (long) rs.getDouble(1);
+            replicaUsable = lagMs <= maxLagMs;
+        } catch (SQLException | RuntimeException e) {
+            // An exception would cancel the scheduled check and leave the replica marked down for good
+            lagMs = -1;
+            replicaUsable = false;
+            System.out.println("Replica lag check failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.tournamentbackend.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// A client that has just written, for example submitted a result, reads from the primary for a
+// short window so it sees its own change even while the replica catches up. The window travels
+// with the client as a cookie, so it holds whichever instance serves the next request.
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "read-primary";
+
+    private final boolean enabled;
+    private final int windowSeconds;
+
+    @Autowired
+    public ReadYourWritesFilter(@Value("${db.replica.url:}") String replicaUrl,
+                                @Value("${db.replica.read-your-writes-seconds:5}") int windowSeconds) {
+        this.enabled = !replicaUrl.isBlank();
+        this.windowSeconds = windowSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = isWrite(request.getMethod());
+        if (!enabled || (!write && !hasCookie(request))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Set before the handler runs, while headers can still be added; a failed write only costs
+        // the client a few seconds of primary reads
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE_NAME, "1");
+            cookie.setPath("/");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        // Reads made while handling a write go to the primary too, so read-then-update sees the latest row
+        boolean previous = ReadRouting.pinToPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRouting.unpin(previous);
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !method.equals("GET") && !method.equals("HEAD") && !method.equals("OPTIONS");
+    }
+
+    private static boolean hasCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.tournamentbackend.schedule;
+
+import java.util.function.IntConsumer;
+
+// Static interval tree over half-open intervals [start, end) that arrive sorted by start. The sorted
+// arrays are the tree: the middle of any range is the root of that range, and maxEnd holds the
+// latest end in each subtree, so a query skips every subtree that finishes before it begins and
+// everything right of a node that starts after it ends.
+final class IntervalTree {
+
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] values;
+    private final long[] maxEnd;
+
+    IntervalTree(long[] starts, long[] ends, int[] values, int size) {
+        this.starts = starts;
+        this.ends = ends;
+        this.values = values;
+        this.maxEnd = new long[size];
+        buildMaxEnd(0, size);
+    }
+
+    // Hands over the value of every interval that overlaps [from, to)
+    void overlapping(long from, long to, IntConsumer consumer) {
+        visit(0, maxEnd.length, from, to, consumer);
+    }
+
+    private long buildMaxEnd(int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(buildMaxEnd(low, mid), buildMaxEnd(mid + 1, high)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void visit(int low, int high, long from, long to, IntConsumer consumer) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        if (maxEnd[mid] <= from) {
+            return;
+        }
+        visit(low, mid, from, to, consumer);
+        if (starts[mid] >= to) {
+            return;
+        }
+        if (ends[mid] > from) {
+            consumer.accept(values[mid]);
+        }
+        visit(mid + 1, high, from, to, consumer);
+    }
+}
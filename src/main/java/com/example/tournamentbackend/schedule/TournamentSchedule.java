@@ -0,0 +1,124 @@
+package com.example.tournamentbackend.schedule;
+
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
+import com.example.tournamentbackend.fixtures.FixtureGenerator;
+import com.example.tournamentbackend.model.Match;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The matches of one tournament as time slots: each match holds both teams from kick-off for a fixed
+// slot length, and a team may only hold one slot at a time. The home team's ground is the venue, so
+// a ground hosting two matches at once shows up as its team being double-booked. Each team gets an
+// interval tree of its slots; checking a match costs two tree queries, so a whole season is checked
+// in O(n log n).
+public final class TournamentSchedule {
+
+    private final long slotSeconds;
+    private final Match[] entries;
+    private final long[] starts;
+    private final Map<Integer, IntervalTree> byTeam;
+
+    // Byes and matches without a date occupy no slot and are left out
+    public TournamentSchedule(Collection<Match> matches, long slotMinutes) {
+        this.slotSeconds = slotMinutes * 60;
+
+        List<Match> placed = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            if (match.getMatchDate() != null && !FixtureGenerator.BYE_STATUS.equalsIgnoreCase(match.getStatus())
+                    && match.getHomeTeamId() != match.getAwayTeamId()) {
+                placed.add(match);
+            }
+        }
+        placed.sort(Comparator.comparing(Match::getMatchDate));
+
+        this.entries = placed.toArray(new Match[0]);
+        this.starts = new long[entries.length];
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            starts[i] = entries[i].getMatchDate().toEpochSecond(ZoneOffset.UTC);
+            counts.merge(entries[i].getHomeTeamId(), 1, Integer::sum);
+            counts.merge(entries[i].getAwayTeamId(), 1, Integer::sum);
+        }
+
+        // Entries are already in kick-off order, so each team's slots come out sorted
+        Map<Integer, TeamSlots> slots = new HashMap<>(counts.size() * 2);
+        counts.forEach((teamId, count) -> slots.put(teamId, new TeamSlots(count)));
+        for (int i = 0; i < entries.length; i++) {
+            slots.get(entries[i].getHomeTeamId()).add(starts[i], starts[i] + slotSeconds, i);
+            slots.get(entries[i].getAwayTeamId()).add(starts[i], starts[i] + slotSeconds, i);
+        }
+        this.byTeam = new HashMap<>(slots.size() * 2);
+        slots.forEach((teamId, teamSlots) -> byTeam.put(teamId, teamSlots.toTree()));
+    }
+
+    // Every clash in the tournament, each pair once per team involved
+    public List<ScheduleConflictDTO> conflicts() {
+        return conflicts(null);
+    }
+
+    // Clashes that involve at least one of the given matches, which must be among the scheduled ones
+    public List<ScheduleConflictDTO> conflictsInvolving(Collection<Match> matches) {
+        Set<Match> subset = Collections.newSetFromMap(new IdentityHashMap<>());
+        subset.addAll(matches);
+        return conflicts(subset);
+    }
+
+    private List<ScheduleConflictDTO> conflicts(Set<Match> subset) {
+        List<ScheduleConflictDTO> conflicts = new ArrayList<>();
+        for (int i = 0; i < entries.length; i++) {
+            Match match = entries[i];
+            if (subset != null && !subset.contains(match)) {
+                continue;
+            }
+            int index = i;
+            for (int teamId : new int[]{match.getHomeTeamId(), match.getAwayTeamId()}) {
+                byTeam.get(teamId).overlapping(starts[i], starts[i] + slotSeconds, other -> {
+                    // Pairs where both sides are checked are reported from the earlier entry only
+                    boolean bothChecked = subset == null || subset.contains(entries[other]);
+                    if (other != index && (!bothChecked || other > index)) {
+                        conflicts.add(conflict(teamId, match, entries[other]));
+                    }
+                });
+            }
+        }
+        return conflicts;
+    }
+
+    private static ScheduleConflictDTO conflict(int teamId, Match match, Match other) {
+        return new ScheduleConflictDTO(teamId, match.getId(), match.getMatchDate(), other.getId(),
+                other.getMatchDate());
+    }
+
+    private static final class TeamSlots {
+        private final long[] starts;
+        private final long[] ends;
+        private final int[] entries;
+        private int size;
+
+        private TeamSlots(int capacity) {
+            this.starts = new long[capacity];
+            this.ends = new long[capacity];
+            this.entries = new int[capacity];
+        }
+
+        private void add(long start, long end, int entry) {
+            starts[size] = start;
+            ends[size] = end;
+            entries[size] = entry;
+            size++;
+        }
+
+        private IntervalTree toTree() {
+            return new IntervalTree(starts, ends, entries, size);
+        }
+    }
+}
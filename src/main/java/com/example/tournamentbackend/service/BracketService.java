@@ -0,0 +1,12 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.BracketDTO;
+import com.example.tournamentbackend.model.Match;
+
+import java.util.List;
+
+public interface BracketService {
+    BracketDTO getBracket(Long tournamentId);
+    List<Match> advance(Match match);
+    void invalidate(Long tournamentId);
+}
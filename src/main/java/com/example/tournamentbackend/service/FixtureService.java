@@ -0,0 +1,8 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.FixtureRequestDTO;
+import com.example.tournamentbackend.dto.FixtureSummaryDTO;
+
+public interface FixtureService {
+    FixtureSummaryDTO generateFixtures(Long tournamentId, FixtureRequestDTO request);
+}
@@ -0,0 +1,12 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.ImportJobDTO;
+import com.example.tournamentbackend.importer.ImportFormat;
+
+import java.io.InputStream;
+
+public interface ImportService {
+    ImportJobDTO importTeams(InputStream upload, ImportFormat format);
+    ImportJobDTO importResults(InputStream upload, ImportFormat format);
+    ImportJobDTO getImportJob(String id);
+}
@@ -0,0 +1,9 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.MatchDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface LiveService {
+    SseEmitter subscribe(Long tournamentId, String lastEventId);
+    void publishMatch(MatchDTO match);
+}
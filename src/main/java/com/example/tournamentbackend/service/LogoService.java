@@ -0,0 +1,11 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.logo.LogoFile;
+
+import java.io.InputStream;
+
+public interface LogoService {
+    String storeLogo(InputStream upload, String originalFilename);
+    LogoFile getLogo(int teamId, Integer size);
+    void evict(int teamId);
+}
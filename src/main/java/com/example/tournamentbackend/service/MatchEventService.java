@@ -0,0 +1,11 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.model.Match;
+
+import java.util.List;
+
+public interface MatchEventService {
+    // before and after are the match as it was and as it is now; null when it did not or no longer exists
+    void resultChanged(Match before, Match after);
+    void resultsRecorded(List<Match> matches);
+}
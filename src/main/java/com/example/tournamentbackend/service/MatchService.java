@@ -1,16 +1,22 @@
 package com.example.tournamentbackend.service;
 
 import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.dto.RescheduleRoundDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
     MatchDTO createMatch(MatchDTO matchDTO);
+    List<MatchDTO> createMatches(List<MatchDTO> matchDTOs);
     MatchDTO getMatchById(Long id);
     List<MatchDTO> getAllMatches();
+    List<MatchDTO> getMatchesPage(Long afterId, int limit);
+    void streamAllMatches(Consumer<MatchDTO> consumer);
     List<MatchDTO> getMatchesByTournamentId(Long tournamentId);
     List<MatchDTO> getMatchesByTeamId(int teamId);
     MatchDTO updateMatch(Long id, MatchDTO matchDTO);
     void deleteMatch(Long id);
     MatchDTO recordMatchResult(Long id, Integer homeTeamScore, Integer awayTeamScore);
+    List<MatchDTO> rescheduleRound(Long tournamentId, RescheduleRoundDTO request);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
+import com.example.tournamentbackend.model.Match;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduleService {
+    void validate(List<Match> matches);
+    List<ScheduleConflictDTO> getConflicts(Long tournamentId);
+    List<Match> planRound(Long tournamentId, String round, LocalDateTime startsAt);
+}
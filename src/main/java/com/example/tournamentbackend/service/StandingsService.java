@@ -0,0 +1,12 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.StandingDTO;
+import com.example.tournamentbackend.model.MatchEvent;
+
+import java.util.List;
+
+public interface StandingsService {
+    List<StandingDTO> getStandings(Long tournamentId);
+    void applyEvents(List<MatchEvent> events);
+    void invalidate(Long tournamentId);
+}
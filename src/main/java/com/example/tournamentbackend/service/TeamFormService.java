@@ -0,0 +1,15 @@
+package com.example.tournamentbackend.service;
+
+import com.example.tournamentbackend.dto.FormDTO;
+import com.example.tournamentbackend.dto.HeadToHeadDTO;
+import com.example.tournamentbackend.model.Match;
+
+import java.util.List;
+
+public interface TeamFormService {
+    FormDTO getForm(int teamId, int n);
+    HeadToHeadDTO getHeadToHead(int teamId, int opponentId);
+    void matchChanged(Match before, Match after);
+    void matchesRecorded(List<Match> matches);
+    void invalidateAll();
+}
@@ -1,18 +1,24 @@
 package com.example.tournamentbackend.service;
 
 import com.example.tournamentbackend.dto.TeamDTO;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TeamService {
 
     TeamDTO createTeam(TeamDTO teamDTO);
     TeamDTO getTeamById(int id);
     List<TeamDTO> getAllTeams();
+    List<TeamDTO> getTeamsPage(Integer afterId, int limit);
+    void streamAllTeams(Consumer<TeamDTO> consumer);
     TeamDTO updateTeam(int id, TeamDTO teamDTO);
     void deleteTeam(int id);
     List<TeamDTO> getTeamsByTournamentId(Long tournamentId);
     void addTeamToTournament(int teamId, Long tournamentId);
     void removeTeamFromTournament(int teamId, Long tournamentId);
     void updateTeamStats(int teamId, int goalsScored, int goalsConceded, String result);
+    void updateTeamStats(List<TeamStatsDelta> deltas);
     void updateTeamLogo(int teamId, String logoPath);
 }
\ No newline at end of file
@@ -3,11 +3,14 @@ package com.example.tournamentbackend.service;
 import com.example.tournamentbackend.dto.TournamentDTO;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TournamentService {
     TournamentDTO createTournament(TournamentDTO tournamentDTO);
     TournamentDTO getTournamentById(Long id);
     List<TournamentDTO> getAllTournaments();
+    List<TournamentDTO> getTournamentsPage(Long afterId, int limit);
+    void streamAllTournaments(Consumer<TournamentDTO> consumer);
     TournamentDTO updateTournament(Long id, TournamentDTO tournamentDTO);
     void deleteTournament(Long id);
 }
\ No newline at end of file
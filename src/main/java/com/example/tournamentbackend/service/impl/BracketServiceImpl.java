@@ -0,0 +1,153 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.bracket.Bracket;
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.BracketDTO;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.routing.ReadRouting;
+import com.example.tournamentbackend.service.BracketService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+public class BracketServiceImpl implements BracketService {
+
+    private static final int DAYS_BETWEEN_ROUNDS = 7;
+
+    private final MatchDao matchRepository;
+    private final TournamentDao tournamentRepository;
+    private final Map<Long, Bracket> brackets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BracketServiceImpl(MatchDao matchRepository, TournamentDao tournamentRepository) {
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+    }
+
+    @Override
+    public BracketDTO getBracket(Long tournamentId) {
+        return brackets.computeIfAbsent(tournamentId, id -> ReadRouting.onPrimary(() -> loadBracket(id))).getBracket();
+    }
+
+    // Moves the winner of a finished bracket match into the next round. The next-round match is only
+    // created once both feeders have a winner; until then the bracket shows it as pending. Must run in
+    // the transaction that recorded the result.
+    @Override
+    public List<Match> advance(Match match) {
+        Integer slot = match.getBracketSlot();
+        Integer winner = Bracket.winnerOf(match);
+        if (slot == null || slot <= 1 || winner == null) {
+            afterCommit(() -> applyToBracket(match, Collections.emptyList()));
+            return Collections.emptyList();
+        }
+
+        // Both feeders of a slot can finish at the same time; the tournament row lock makes sure only
+        // one of them sees the parent missing and creates it
+        tournamentRepository.lockById(match.getTournamentId());
+
+        int parentSlot = slot / 2;
+        boolean homeSide = slot % 2 == 0;
+        List<Match> advanced = new ArrayList<>(1);
+
+        Optional<Match> existingParent = matchRepository.findByBracketSlot(match.getTournamentId(), parentSlot);
+        if (existingParent.isPresent()) {
+            Match parent = existingParent.get();
+            // A corrected result can still change who goes through, but not once the next round is played
+            if (!"completed".equalsIgnoreCase(parent.getStatus())) {
+                if (homeSide) {
+                    parent.setHomeTeamId(winner);
+                    parent.setHomeTeamName(Bracket.winnerName(match));
+                } else {
+                    parent.setAwayTeamId(winner);
+                    parent.setAwayTeamName(Bracket.winnerName(match));
+                }
+                matchRepository.update(parent);
+                advanced.add(parent);
+            }
+        } else {
+            Match sibling = matchRepository.findByBracketSlot(match.getTournamentId(), slot ^ 1).orElse(null);
+            Integer siblingWinner = Bracket.winnerOf(sibling);
+            if (siblingWinner != null) {
+                Match home = homeSide ? match : sibling;
+                Match away = homeSide ? sibling : match;
+
+                Match parent = new Match();
+                parent.setTournamentId(match.getTournamentId());
+                parent.setHomeTeamId(Bracket.winnerOf(home));
+                parent.setAwayTeamId(Bracket.winnerOf(away));
+                parent.setMatchDate(nextRoundDate(home, away));
+                parent.setStatus("scheduled");
+                parent.setRound(Bracket.roundName(parentSlot));
+                parent.setBracketSlot(parentSlot);
+                advanced.add(matchRepository.save(parent));
+            }
+        }
+
+        afterCommit(() -> applyToBracket(match, advanced));
+        return advanced;
+    }
+
+    @Override
+    public void invalidate(Long tournamentId) {
+        // Dropped brackets are rebuilt from the matches table on the next read
+        if (tournamentId != null) {
+            afterCommit(() -> brackets.remove(tournamentId));
+        }
+    }
+
+    private void applyToBracket(Match match, List<Match> advanced) {
+        brackets.computeIfPresent(match.getTournamentId(), (tournamentId, bracket) -> {
+            bracket.apply(match);
+            for (Match next : advanced) {
+                bracket.apply(next);
+            }
+            return bracket;
+        });
+    }
+
+    private Bracket loadBracket(Long tournamentId) {
+        List<Match> bracketMatches = matchRepository.findByTournamentId(tournamentId).stream()
+                .filter(match -> match.getBracketSlot() != null && match.getBracketSlot() >= 1)
+                .collect(Collectors.toList());
+        if (bracketMatches.isEmpty()) {
+            tournamentRepository.findById(tournamentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+            throw new ResourceNotFoundException("No bracket for tournament with id: " + tournamentId);
+        }
+        return new Bracket(tournamentId, bracketMatches);
+    }
+
+    private static LocalDateTime nextRoundDate(Match home, Match away) {
+        LocalDateTime latest = home.getMatchDate();
+        if (latest == null || (away.getMatchDate() != null && away.getMatchDate().isAfter(latest))) {
+            latest = away.getMatchDate();
+        }
+        return latest != null ? latest.plusDays(DAYS_BETWEEN_ROUNDS) : LocalDateTime.now().plusDays(DAYS_BETWEEN_ROUNDS);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
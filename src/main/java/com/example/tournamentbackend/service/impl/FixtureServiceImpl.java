@@ -0,0 +1,99 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.FixtureRequestDTO;
+import com.example.tournamentbackend.dto.FixtureSummaryDTO;
+import com.example.tournamentbackend.exception.ConflictException;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.fixtures.FixtureFormat;
+import com.example.tournamentbackend.fixtures.FixtureGenerator;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.Tournament;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.FixtureService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class FixtureServiceImpl implements FixtureService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int DEFAULT_DAYS_BETWEEN_ROUNDS = 7;
+
+    private final TournamentDao tournamentRepository;
+    private final TeamDao teamRepository;
+    private final MatchDao matchRepository;
+    private final BracketService bracketService;
+
+    @Autowired
+    public FixtureServiceImpl(TournamentDao tournamentRepository, TeamDao teamRepository, MatchDao matchRepository,
+                              BracketService bracketService) {
+        this.tournamentRepository = tournamentRepository;
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.bracketService = bracketService;
+    }
+
+    @Override
+    @Transactional
+    public FixtureSummaryDTO generateFixtures(Long tournamentId, FixtureRequestDTO request) {
+        // Held until commit, so two requests cannot both find no fixtures and both generate them
+        tournamentRepository.lockById(tournamentId);
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+
+        if (matchRepository.countByTournamentId(tournamentId) > 0) {
+            throw new ConflictException("Tournament already has fixtures: " + tournamentId);
+        }
+
+        String requestedFormat = request != null && request.getFormat() != null ? request.getFormat() : tournament.getType();
+        FixtureFormat format = FixtureFormat.fromType(requestedFormat);
+        int daysBetweenRounds = request != null && request.getDaysBetweenRounds() != null
+                ? request.getDaysBetweenRounds()
+                : DEFAULT_DAYS_BETWEEN_ROUNDS;
+        LocalDate startDate = tournament.getStartDate() != null ? tournament.getStartDate() : LocalDate.now();
+        LocalDateTime firstRoundDate = startDate.atStartOfDay();
+
+        // Teams come back ordered by standing, which doubles as the knockout seeding
+        List<Integer> teamIds = teamRepository.findByTournamentId(tournamentId).stream()
+                .map(Team::getId)
+                .collect(Collectors.toList());
+
+        List<Match> batch = new ArrayList<>(BATCH_SIZE);
+        List<Match> byes = new ArrayList<>();
+        int[] created = {0};
+        int rounds = FixtureGenerator.generate(tournamentId, teamIds, format, firstRoundDate, daysBetweenRounds, match -> {
+            if (FixtureGenerator.BYE_STATUS.equals(match.getStatus())) {
+                byes.add(match);
+            }
+            batch.add(match);
+            if (batch.size() == BATCH_SIZE) {
+                matchRepository.saveAll(batch);
+                created[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            matchRepository.saveAll(batch);
+            created[0] += batch.size();
+        }
+
+        // Two byes side by side already decide a second-round match
+        bracketService.invalidate(tournamentId);
+        for (Match bye : byes) {
+            bracketService.advance(bye);
+        }
+
+        return new FixtureSummaryDTO(tournamentId, format.name().toLowerCase(), teamIds.size(), rounds, created[0]);
+    }
+}
@@ -0,0 +1,367 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.ImportErrorDTO;
+import com.example.tournamentbackend.dto.ImportJobDTO;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.importer.ImportFormat;
+import com.example.tournamentbackend.importer.ImportJob;
+import com.example.tournamentbackend.importer.ImportRow;
+import com.example.tournamentbackend.importer.ImportRowReader;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.ImportService;
+import com.example.tournamentbackend.service.MatchEventService;
+import com.example.tournamentbackend.service.StandingsService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final TeamDao teamRepository;
+    private final MatchDao matchRepository;
+    private final TournamentDao tournamentRepository;
+    private final StandingsService standingsService;
+    private final BracketService bracketService;
+    private final MatchEventService matchEventService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    @Autowired
+    public ImportServiceImpl(TeamDao teamRepository, MatchDao matchRepository, TournamentDao tournamentRepository,
+                             StandingsService standingsService, BracketService bracketService,
+                             MatchEventService matchEventService,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${import.chunk-size:1000}") int chunkSize,
+                             @Value("${import.workers:2}") int workers) {
+        this.teamRepository = teamRepository;
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.standingsService = standingsService;
+        this.bracketService = bracketService;
+        this.matchEventService = matchEventService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.executor = Executors.newFixedThreadPool(workers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public ImportJobDTO importTeams(InputStream upload, ImportFormat format) {
+        return submit("teams", upload, format, this::processTeams);
+    }
+
+    @Override
+    public ImportJobDTO importResults(InputStream upload, ImportFormat format) {
+        return submit("results", upload, format, this::processResults);
+    }
+
+    @Override
+    public ImportJobDTO getImportJob(String id) {
+        ImportJob job;
+        synchronized (jobs) {
+            job = jobs.get(id);
+        }
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + id);
+        }
+        return job.toDTO();
+    }
+
+    private interface RowProcessor {
+        void process(ImportRowReader reader, ImportJob job) throws IOException;
+    }
+
+    // The upload is spooled to disk so the request can return while rows are processed in the background
+    private ImportJobDTO submit(String type, InputStream upload, ImportFormat format, RowProcessor processor) {
+        Path spool;
+        try {
+            spool = Files.createTempFile("import-" + type + "-", ".upload");
+            Files.copy(upload, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store import upload", e);
+        }
+
+        ImportJob job = new ImportJob(type);
+        register(job);
+
+        executor.submit(() -> {
+            job.start();
+            try (ImportRowReader reader = new ImportRowReader(Files.newInputStream(spool), format, objectMapper)) {
+                processor.process(reader, job);
+                job.complete();
+            } catch (Exception e) {
+                System.out.println("Import " + job.getId() + " failed: " + e.getMessage());
+                job.fail(e.getMessage());
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    System.out.println("Failed to delete import spool file: " + e.getMessage());
+                }
+            }
+        });
+
+        return job.toDTO();
+    }
+
+    private void register(ImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            if (jobs.size() > MAX_RETAINED_JOBS) {
+                jobs.values().removeIf(existing -> jobs.size() > MAX_RETAINED_JOBS && existing.isFinished());
+            }
+        }
+    }
+
+    // Reads validated rows into chunks and hands each full chunk to the writer
+    private <T> void readChunks(ImportRowReader reader, ImportJob job, Function<ImportRow, T> parser,
+                                ChunkWriter<T> writer) throws IOException {
+        List<PendingRow<T>> chunk = new ArrayList<>(chunkSize);
+        while (true) {
+            ImportRow row;
+            try {
+                row = reader.next();
+            } catch (IllegalArgumentException e) {
+                job.rowRead();
+                job.rowFailed(reader.getRowNumber(), e.getMessage());
+                continue;
+            }
+            if (row == null) {
+                break;
+            }
+
+            job.rowRead();
+            try {
+                chunk.add(new PendingRow<>(row.getRowNumber(), parser.apply(row)));
+            } catch (IllegalArgumentException e) {
+                job.rowFailed(row.getRowNumber(), e.getMessage());
+            }
+
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, job, writer);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, job, writer);
+        }
+    }
+
+    private interface ChunkWriter<T> {
+        // Returns per-row errors found while writing; the chunk's other rows are committed
+        List<ImportErrorDTO> write(List<PendingRow<T>> rows);
+    }
+
+    private static final class PendingRow<T> {
+        private final long rowNumber;
+        private final T value;
+
+        private PendingRow(long rowNumber, T value) {
+            this.rowNumber = rowNumber;
+            this.value = value;
+        }
+    }
+
+    // One transaction per chunk; if it fails, rows are retried one at a time to isolate the bad ones
+    private <T> void writeChunk(List<PendingRow<T>> chunk, ImportJob job, ChunkWriter<T> writer) {
+        try {
+            List<ImportErrorDTO> errors = transactionTemplate.execute(status -> writer.write(chunk));
+            recordChunk(job, chunk.size(), errors);
+        } catch (RuntimeException chunkFailure) {
+            for (PendingRow<T> row : chunk) {
+                try {
+                    List<ImportErrorDTO> errors = transactionTemplate.execute(status -> writer.write(List.of(row)));
+                    recordChunk(job, 1, errors);
+                } catch (RuntimeException rowFailure) {
+                    Throwable cause = rowFailure.getCause() != null ? rowFailure.getCause() : rowFailure;
+                    job.rowFailed(row.rowNumber, cause.getMessage());
+                }
+            }
+        }
+    }
+
+    private void recordChunk(ImportJob job, int rows, List<ImportErrorDTO> errors) {
+        for (ImportErrorDTO error : errors) {
+            job.rowFailed(error.getRow(), error.getMessage());
+        }
+        job.rowsImported(rows - errors.size());
+    }
+
+    private static final class TeamImport {
+        private final Team team;
+        private final Long tournamentId;
+
+        private TeamImport(Team team, Long tournamentId) {
+            this.team = team;
+            this.tournamentId = tournamentId;
+        }
+    }
+
+    private void processTeams(ImportRowReader reader, ImportJob job) throws IOException {
+        Map<Long, Boolean> knownTournaments = new HashMap<>();
+
+        readChunks(reader, job, row -> {
+            String name = row.get("name");
+            if (name == null) {
+                throw new IllegalArgumentException("Team name is required");
+            }
+            Long tournamentId = parseLong(row, "tournamentId", false);
+            if (tournamentId != null && !knownTournaments.computeIfAbsent(tournamentId,
+                    id -> tournamentRepository.findById(id).isPresent())) {
+                throw new IllegalArgumentException("Tournament not found with id: " + tournamentId);
+            }
+            Team team = new Team(0, name, 0, 0, 0, 0, 0, 0, 0, "", 0, row.get("logoPath"), 0);
+            return new TeamImport(team, tournamentId);
+        }, rows -> {
+            List<Team> teams = new ArrayList<>(rows.size());
+            for (PendingRow<TeamImport> row : rows) {
+                teams.add(row.value.team);
+            }
+            teamRepository.saveAll(teams);
+
+            Map<Long, List<Integer>> memberships = new HashMap<>();
+            for (PendingRow<TeamImport> row : rows) {
+                if (row.value.tournamentId != null) {
+                    memberships.computeIfAbsent(row.value.tournamentId, id -> new ArrayList<>())
+                            .add(row.value.team.getId());
+                }
+            }
+            memberships.forEach((tournamentId, teamIds) -> {
+                teamRepository.addTeamsToTournament(teamIds, tournamentId);
+                standingsService.invalidate(tournamentId);
+            });
+            return List.of();
+        });
+    }
+
+    private void processResults(ImportRowReader reader, ImportJob job) throws IOException {
+        readChunks(reader, job, row -> {
+            Match result = new Match();
+            result.setId(parseLong(row, "matchId", true));
+            result.setHomeTeamScore(parseScore(row, "homeTeamScore"));
+            result.setAwayTeamScore(parseScore(row, "awayTeamScore"));
+            return result;
+        }, rows -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (PendingRow<Match> row : rows) {
+                ids.add(row.value.getId());
+            }
+            Map<Long, Match> existing = new HashMap<>();
+            Set<Long> tournamentIds = new HashSet<>();
+            for (Match match : matchRepository.findByIds(ids)) {
+                existing.put(match.getId(), match);
+                tournamentIds.add(match.getTournamentId());
+            }
+            // Same order as single results: tournaments first, then their matches and teams
+            tournamentRepository.lockAllById(tournamentIds);
+
+            List<ImportErrorDTO> errors = new ArrayList<>();
+            List<Match> completed = new ArrayList<>();
+            Map<Long, Long> rowNumbers = new HashMap<>();
+            Set<Long> seen = new HashSet<>();
+            for (PendingRow<Match> row : rows) {
+                Long matchId = row.value.getId();
+                Match match = existing.get(matchId);
+                if (match == null) {
+                    errors.add(new ImportErrorDTO(row.rowNumber, "Match not found with id: " + matchId));
+                } else if (!seen.add(matchId) || "completed".equalsIgnoreCase(match.getStatus())) {
+                    errors.add(new ImportErrorDTO(row.rowNumber, "Match already has a result: " + matchId));
+                } else {
+                    match.setHomeTeamScore(row.value.getHomeTeamScore());
+                    match.setAwayTeamScore(row.value.getAwayTeamScore());
+                    match.setStatus("completed");
+                    completed.add(match);
+                    rowNumbers.put(matchId, row.rowNumber);
+                }
+            }
+            if (completed.isEmpty()) {
+                return errors;
+            }
+
+            // The matches were read before the lock; any that changed since are reported, not overwritten
+            List<Match> recorded = matchRepository.recordResults(completed);
+            Set<Long> recordedIds = new HashSet<>();
+            List<TeamStatsDelta> deltas = new ArrayList<>();
+            for (Match match : recorded) {
+                recordedIds.add(match.getId());
+                deltas.addAll(TeamStatsDelta.forMatch(match.getHomeTeamId(), match.getAwayTeamId(),
+                        match.getHomeTeamScore(), match.getAwayTeamScore()));
+            }
+            for (Match match : completed) {
+                if (!recordedIds.contains(match.getId())) {
+                    errors.add(new ImportErrorDTO(rowNumbers.get(match.getId()),
+                            "Match was changed while importing, result not recorded: " + match.getId()));
+                }
+            }
+
+            if (!recorded.isEmpty()) {
+                teamRepository.applyStatsDeltas(deltas);
+                matchEventService.resultsRecorded(recorded);
+                for (Match match : recorded) {
+                    bracketService.advance(match);
+                }
+            }
+            return errors;
+        });
+    }
+
+    private Long parseLong(ImportRow row, String field, boolean required) {
+        String value = row.get(field);
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(field + " is required");
+            }
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private Integer parseScore(ImportRow row, String field) {
+        Long score = parseLong(row, field, true);
+        if (score < 0 || score > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + score);
+        }
+        return score.intValue();
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.live.LiveChannel;
+import com.example.tournamentbackend.live.LiveEvent;
+import com.example.tournamentbackend.service.LiveService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Pushes match updates to SSE subscribers. Publishing only marks the tournament dirty; a single
+// flusher turns pending updates into events every coalesce window, and each subscriber's events are
+// written by a small shared pool. A send is a blocking socket write, so a client that stops reading
+// would hold its writer thread; a send that takes longer than the send timeout disconnects the
+// client, and the pool gets an extra thread until the stuck write returns, so stalled clients never
+// starve the others.
+@Service
+public class LiveServiceImpl implements LiveService {
+
+    private static final String MATCH_EVENT = "match";
+    private static final String RESET_EVENT = "reset";
+
+    private final TournamentDao tournamentRepository;
+    private final ObjectMapper objectMapper;
+    private final int historySize;
+    private final int subscriberBuffer;
+    private final long emitterTimeoutMs;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, LiveChannel<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ThreadPoolExecutor writers;
+    private final long sendTimeoutNanos;
+
+    @Autowired
+    public LiveServiceImpl(TournamentDao tournamentRepository, ObjectMapper objectMapper,
+                           @Value("${live.coalesce-ms:250}") long coalesceMs,
+                           @Value("${live.heartbeat-seconds:15}") long heartbeatSeconds,
+                           @Value("${live.history-size:256}") int historySize,
+                           @Value("${live.subscriber-buffer:64}") int subscriberBuffer,
+                           @Value("${live.writer-threads:4}") int writerThreads,
+                           @Value("${live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                           @Value("${live.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.tournamentRepository = tournamentRepository;
+        this.objectMapper = objectMapper;
+        this.historySize = historySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMs, coalesceMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(this::expireStalledSends, sendTimeoutMs, sendTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter subscribe(Long tournamentId, String lastEventId) {
+        tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+
+        LiveChannel<Subscriber> channel = channelFor(tournamentId);
+        SseEmitter emitter = createEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, channel);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // Registering and replaying under the channel lock keeps the flusher from interleaving
+        synchronized (channel) {
+            List<LiveEvent> missed = channel.eventsAfter(lastEventId);
+            if (missed == null) {
+                subscriber.enqueue(SseEmitter.event().name(RESET_EVENT).data(tournamentId).build());
+            } else {
+                for (LiveEvent event : missed) {
+                    subscriber.enqueue(toFrame(event));
+                }
+            }
+            channel.addSubscriber(subscriber);
+        }
+        return emitter;
+    }
+
+    @Override
+    public void publishMatch(MatchDTO match) {
+        if (match.getTournamentId() == null || match.getId() == null) {
+            return;
+        }
+        // Serialized once here rather than once per subscriber on every send
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(match);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize live match update", e);
+        }
+        afterCommit(() -> {
+            channelFor(match.getTournamentId()).offer(match.getId(), MATCH_EVENT, json);
+            dirty.add(match.getTournamentId());
+        });
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private LiveChannel<Subscriber> channelFor(Long tournamentId) {
+        return channels.computeIfAbsent(tournamentId, id -> new LiveChannel<>(epoch, historySize));
+    }
+
+    private void flush() {
+        try {
+            flushDirty();
+        } catch (RuntimeException e) {
+            // An exception would cancel the scheduled task and stop the feed for everyone
+            System.out.println("Live feed flush failed: " + e.getMessage());
+        }
+    }
+
+    private void flushDirty() {
+        for (Long tournamentId : dirty) {
+            dirty.remove(tournamentId);
+            LiveChannel<Subscriber> channel = channels.get(tournamentId);
+            if (channel == null) {
+                continue;
+            }
+            synchronized (channel) {
+                List<LiveEvent> events = channel.flush();
+                if (events.isEmpty()) {
+                    continue;
+                }
+                // Each event is framed once and the same frame is handed to every subscriber
+                List<Set<DataWithMediaType>> frames = new ArrayList<>(events.size());
+                for (LiveEvent event : events) {
+                    frames.add(toFrame(event));
+                }
+                for (Subscriber subscriber : channel.getSubscribers()) {
+                    for (Set<DataWithMediaType> frame : frames) {
+                        subscriber.enqueue(frame);
+                    }
+                }
+            }
+        }
+    }
+
+    // Comments keep idle connections open through proxies and surface dead clients
+    private void heartbeat() {
+        try {
+            Set<DataWithMediaType> frame = SseEmitter.event().comment("keepalive").build();
+            for (LiveChannel<Subscriber> channel : channels.values()) {
+                for (Subscriber subscriber : channel.getSubscribers()) {
+                    subscriber.enqueue(frame);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Live feed heartbeat failed: " + e.getMessage());
+        }
+    }
+
+    private void expireStalledSends() {
+        try {
+            long now = System.nanoTime();
+            for (LiveChannel<Subscriber> channel : channels.values()) {
+                for (Subscriber subscriber : channel.getSubscribers()) {
+                    subscriber.expireIfStalled(now);
+                }
+            }
+        } catch (RuntimeException e) {
+            System.out.println("Live feed send check failed: " + e.getMessage());
+        }
+    }
+
+    // Stands in for a writer stuck on a stalled client while its write is outstanding
+    private void resizeWriters(int delta) {
+        synchronized (writers) {
+            int size = writers.getCorePoolSize() + delta;
+            if (delta > 0) {
+                writers.setMaximumPoolSize(size);
+                writers.setCorePoolSize(size);
+            } else {
+                writers.setCorePoolSize(size);
+                writers.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+    private static Set<DataWithMediaType> toFrame(LiveEvent event) {
+        return SseEmitter.event()
+                .id(event.getId())
+                .name(event.getName())
+                .data(event.getData(), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    // Same rule as the standings: viewers only hear about changes once they are committed
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final LiveChannel<Subscriber> channel;
+        private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private boolean sending;
+        private long sendingSince;
+        private boolean stalled;
+
+        private Subscriber(SseEmitter emitter, LiveChannel<Subscriber> channel) {
+            this.emitter = emitter;
+            this.channel = channel;
+        }
+
+        // A client that falls this far behind is disconnected; it resumes from its last event id
+        private void enqueue(Set<DataWithMediaType> event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() >= subscriberBuffer) {
+                    closed = true;
+                    queue.clear();
+                } else {
+                    queue.addLast(event);
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                }
+            }
+
+            if (isClosed()) {
+                channel.removeSubscriber(this);
+                emitter.complete();
+            } else {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> event;
+                synchronized (this) {
+                    event = queue.pollFirst();
+                    if (event == null || closed) {
+                        draining = false;
+                        return;
+                    }
+                    sending = true;
+                    sendingSince = System.nanoTime();
+                }
+
+                Exception failure = null;
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    failure = e;
+                }
+
+                boolean timedOut;
+                synchronized (this) {
+                    sending = false;
+                    timedOut = stalled;
+                }
+                if (timedOut) {
+                    resizeWriters(-1);
+                }
+                if (failure != null) {
+                    close();
+                    emitter.completeWithError(failure);
+                    return;
+                }
+                if (timedOut) {
+                    // The client did read in the end, but too late; it reconnects from its last event id
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+
+        // Completing the emitter here would wait for the stuck send, which holds the emitter's write
+        // lock, so the writer completes it once the send returns or fails
+        private void expireIfStalled(long now) {
+            synchronized (this) {
+                if (!sending || stalled || now - sendingSince < sendTimeoutNanos) {
+                    return;
+                }
+                stalled = true;
+                closed = true;
+                queue.clear();
+            }
+            channel.removeSubscriber(this);
+            resizeWriters(1);
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+            channel.removeSubscriber(this);
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.logo.LogoFile;
+import com.example.tournamentbackend.logo.LogoThumbnails;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.service.LogoService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Keeps a team id -> logo file index in memory. The database is only consulted the first time a
+// team's logo is requested or after the logo changes.
+@Service
+public class LogoServiceImpl implements LogoService {
+
+    private static final Logger log = LoggerFactory.getLogger(LogoServiceImpl.class);
+    // Raster formats only: an SVG is a document that can carry script, and logos are served inline
+    private static final Set<String> LOGO_EXTENSIONS = Set.of("png", "jpg", "jpeg", "gif", "webp");
+
+    private final TeamDao teamRepository;
+    private final Path uploadPath;
+    // Empty marks a team known to have no logo, so repeated misses stay off the database too
+    private final ConcurrentMap<Integer, Optional<LogoFile>> index = new ConcurrentHashMap<>();
+    // Bumped by every evict; a load only goes into the index if its team was not evicted while it ran
+    private final ConcurrentMap<Integer, Long> evictions = new ConcurrentHashMap<>();
+    // Variants are content-addressed and never rewritten, so entries never go stale
+    private final ConcurrentMap<Path, LogoFile> variants = new ConcurrentHashMap<>();
+    private final Set<Path> pendingThumbnails = ConcurrentHashMap.newKeySet();
+    // Originals ImageIO has no reader for (WebP without a plugin) are always served as-is
+    private final Set<Path> undecodable = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor thumbnailExecutor;
+
+    @Autowired
+    public LogoServiceImpl(TeamDao teamRepository,
+                           @Value("${file.upload-dir}") String uploadDir,
+                           @Value("${logo.thumbnail-workers:2}") int thumbnailWorkers,
+                           @Value("${logo.thumbnail-queue-size:100}") int thumbnailQueueSize) {
+        this.teamRepository = teamRepository;
+        this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.thumbnailExecutor = new ThreadPoolExecutor(thumbnailWorkers, thumbnailWorkers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(thumbnailQueueSize));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        thumbnailExecutor.shutdownNow();
+    }
+
+    // Stores the upload under its content hash, so the same image uploaded twice is kept once
+    @Override
+    public String storeLogo(InputStream upload, String originalFilename) {
+        String extension = extensionOf(originalFilename);
+        if (!LOGO_EXTENSIONS.contains(extension)) {
+            throw new IllegalArgumentException("Logo must be a PNG, JPEG, GIF or WebP image, got: " + originalFilename);
+        }
+
+        try {
+            Files.createDirectories(uploadPath);
+            Path spool = Files.createTempFile(uploadPath, "upload-", ".tmp");
+            try {
+                MessageDigest digest = sha256();
+                try (InputStream in = new DigestInputStream(upload, digest)) {
+                    Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+                }
+                String hash = HexFormat.of().formatHex(digest.digest());
+
+                Path target = uploadPath.resolve(hash + "." + extension);
+                if (!Files.exists(target)) {
+                    Files.move(spool, target, StandardCopyOption.ATOMIC_MOVE);
+                }
+                requestThumbnails(target);
+                return target.getFileName().toString();
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store logo upload", e);
+        }
+    }
+
+    @Override
+    public LogoFile getLogo(int teamId, Integer size) {
+        Optional<LogoFile> logo = index.get(teamId);
+        if (logo == null) {
+            Long stamp = evictions.get(teamId);
+            Optional<LogoFile> loaded = load(teamId);
+            logo = index.compute(teamId, (id, current) -> {
+                if (current != null) {
+                    return current;
+                }
+                return Objects.equals(evictions.get(id), stamp) ? loaded : null;
+            });
+            if (logo == null) {
+                // The logo changed while loading; this answer may be the old one, so it is not kept
+                logo = loaded;
+            }
+        }
+
+        LogoFile original = logo.orElseThrow(() -> new ResourceNotFoundException("Logo not found for team with id: " + teamId));
+        if (!Files.isReadable(original.getPath())) {
+            index.remove(teamId);
+            throw new ResourceNotFoundException("Logo not found for team with id: " + teamId);
+        }
+
+        Integer variantSize = LogoThumbnails.variantFor(size);
+        if (variantSize == null) {
+            return original;
+        }
+        LogoFile variant = variant(original, variantSize);
+        return variant != null ? variant : original;
+    }
+
+    // Inside a transaction the change is not visible to loads until it commits, so a load in between
+    // could index the old logo again; the entry is dropped once more when the transaction ends
+    @Override
+    public void evict(int teamId) {
+        drop(teamId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(teamId);
+                }
+            });
+        }
+    }
+
+    private void drop(int teamId) {
+        evictions.merge(teamId, 1L, Long::sum);
+        index.remove(teamId);
+    }
+
+    // Falls back to the original until the thumbnail has been generated
+    private LogoFile variant(LogoFile original, int size) {
+        Path path = original.getPath().resolveSibling(
+                LogoThumbnails.variantName(original.getPath().getFileName().toString(), size));
+        LogoFile variant = variants.get(path);
+        if (variant != null && Files.isReadable(path)) {
+            return variant;
+        }
+        variants.remove(path);
+
+        if (!Files.isRegularFile(path)) {
+            requestThumbnails(original.getPath());
+            return null;
+        }
+        try {
+            variant = describe(path, "\"" + path.getFileName().toString().replace('.', '-') + "\"");
+        } catch (IOException e) {
+            return null;
+        }
+        variants.putIfAbsent(path, variant);
+        return variant;
+    }
+
+    private void requestThumbnails(Path original) {
+        if (undecodable.contains(original) || !pendingThumbnails.add(original)) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    generateThumbnails(original);
+                } finally {
+                    pendingThumbnails.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue is full; the next request for a missing variant queues it again
+            pendingThumbnails.remove(original);
+        }
+    }
+
+    private void generateThumbnails(Path original) {
+        try {
+            BufferedImage source = null;
+            for (int size : LogoThumbnails.SIZES) {
+                Path target = original.resolveSibling(
+                        LogoThumbnails.variantName(original.getFileName().toString(), size));
+                if (Files.exists(target)) {
+                    continue;
+                }
+                if (source == null) {
+                    source = ImageIO.read(original.toFile());
+                    if (source == null) {
+                        undecodable.add(original);
+                        log.warn("No image reader for logo {}; it is served without thumbnails", original.getFileName());
+                        return;
+                    }
+                }
+
+                Path spool = Files.createTempFile(original.getParent(), "thumb-", ".tmp");
+                try {
+                    ImageIO.write(LogoThumbnails.scale(source, size), LogoThumbnails.FORMAT, spool.toFile());
+                    Files.move(spool, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(spool);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to generate logo thumbnails for {}", original.getFileName(), e);
+        }
+    }
+
+    private Optional<LogoFile> load(int teamId) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
+        if (team.getLogoPath() == null || team.getLogoPath().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Path path = uploadPath.resolve(team.getLogoPath()).normalize();
+        if (!path.startsWith(uploadPath) || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(describe(path, "\"" + contentHash(path) + "\""));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read logo file for team " + teamId, e);
+        }
+    }
+
+    private static LogoFile describe(Path path, String etag) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        return new LogoFile(path, contentType, attributes.size(), attributes.lastModifiedTime().toMillis(), etag);
+    }
+
+    // Strong validator: the ETag only changes when the bytes do
+    private static String contentHash(Path path) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream in = Files.newInputStream(path)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchEventDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.MatchEvent;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import com.example.tournamentbackend.service.MatchEventService;
+import com.example.tournamentbackend.service.StandingsService;
+import com.example.tournamentbackend.service.TeamFormService;
+import com.example.tournamentbackend.service.TeamService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Every change to a counted result is appended to the match event log, and team stats get the
+// difference between the old and the new result instead of being left as they were. Must run in
+// the transaction that changes the match.
+@Service
+public class MatchEventServiceImpl implements MatchEventService {
+
+    private final MatchEventDao matchEventRepository;
+    private final TournamentDao tournamentRepository;
+    private final TeamService teamService;
+    private final StandingsService standingsService;
+    private final TeamFormService teamFormService;
+
+    @Autowired
+    public MatchEventServiceImpl(MatchEventDao matchEventRepository, TournamentDao tournamentRepository,
+                                 TeamService teamService, StandingsService standingsService,
+                                 TeamFormService teamFormService) {
+        this.matchEventRepository = matchEventRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.teamService = teamService;
+        this.standingsService = standingsService;
+        this.teamFormService = teamFormService;
+    }
+
+    @Override
+    public void resultChanged(Match before, Match after) {
+        // The form index also orders by kick-off, so it hears about reschedules that change no result
+        teamFormService.matchChanged(before, after);
+
+        boolean wasCounted = isCounted(before);
+        boolean isCounted = isCounted(after);
+        if (!wasCounted && !isCounted) {
+            return;
+        }
+        if (wasCounted && isCounted && sameResult(before, after)) {
+            return;
+        }
+
+        boolean sameTournament = wasCounted && isCounted
+                && Objects.equals(before.getTournamentId(), after.getTournamentId());
+        List<MatchEvent> events = new ArrayList<>(2);
+        List<TeamStatsDelta> deltas = new ArrayList<>(4);
+
+        if (wasCounted) {
+            for (TeamStatsDelta delta : deltasFor(before)) {
+                deltas.add(delta.reversed());
+            }
+            if (!sameTournament) {
+                events.add(event(before, MatchEvent.VOIDED, null, null));
+            }
+        }
+        if (isCounted) {
+            // A correction changes the numbers but does not add another game to the form guide
+            for (TeamStatsDelta delta : deltasFor(after)) {
+                deltas.add(wasCounted ? delta.withoutForm() : delta);
+            }
+            events.add(event(after, sameTournament ? MatchEvent.CORRECTED : MatchEvent.RECORDED,
+                    after.getHomeTeamScore(), after.getAwayTeamScore()));
+        }
+
+        append(events);
+        teamService.updateTeamStats(deltas);
+    }
+
+    // Bulk import path: new results only, whose team stats the importer applies itself
+    @Override
+    public void resultsRecorded(List<Match> matches) {
+        List<MatchEvent> events = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            if (isCounted(match)) {
+                events.add(event(match, MatchEvent.RECORDED, match.getHomeTeamScore(), match.getAwayTeamScore()));
+            }
+        }
+        append(events);
+        teamFormService.matchesRecorded(matches);
+    }
+
+    // The tournament row lock makes event ids commit in order within a tournament, so a reader that
+    // has seen event n has also seen every earlier event of that tournament
+    private void append(List<MatchEvent> events) {
+        events.removeIf(event -> event.getTournamentId() == null);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Long> tournamentIds = new ArrayList<>(events.size());
+        for (MatchEvent event : events) {
+            tournamentIds.add(event.getTournamentId());
+        }
+        // Normally already held, since match writers lock the tournament before the match
+        tournamentRepository.lockAllById(tournamentIds);
+
+        standingsService.applyEvents(matchEventRepository.saveAll(events));
+    }
+
+    private static List<TeamStatsDelta> deltasFor(Match match) {
+        return TeamStatsDelta.forMatch(match.getHomeTeamId(), match.getAwayTeamId(),
+                match.getHomeTeamScore(), match.getAwayTeamScore());
+    }
+
+    private static MatchEvent event(Match match, String type, Integer homeScore, Integer awayScore) {
+        return new MatchEvent(null, match.getId(), match.getTournamentId(), type,
+                match.getHomeTeamId(), match.getAwayTeamId(), homeScore, awayScore, null);
+    }
+
+    private static boolean isCounted(Match match) {
+        return match != null
+                && "completed".equalsIgnoreCase(match.getStatus())
+                && match.getHomeTeamScore() != null
+                && match.getAwayTeamScore() != null;
+    }
+
+    private static boolean sameResult(Match before, Match after) {
+        return Objects.equals(before.getTournamentId(), after.getTournamentId())
+                && before.getHomeTeamId() == after.getHomeTeamId()
+                && before.getAwayTeamId() == after.getAwayTeamId()
+                && before.getHomeTeamScore().equals(after.getHomeTeamScore())
+                && before.getAwayTeamScore().equals(after.getAwayTeamScore());
+    }
+}
@@ -1,47 +1,95 @@
 package com.example.tournamentbackend.service.impl;
 
 import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.dto.RescheduleRoundDTO;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
 import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.Team;
 import com.example.tournamentbackend.dao.MatchDao;
 import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.LiveService;
+import com.example.tournamentbackend.service.MatchEventService;
 import com.example.tournamentbackend.service.MatchService;
-import com.example.tournamentbackend.service.TeamService;
+import com.example.tournamentbackend.service.ScheduleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class MatchServiceImpl implements MatchService {
 
+    private static final int CREATE_BATCH_SIZE = 1000;
+    private static final EnumSet<Match.Field> SCHEDULE_FIELDS = EnumSet.of(Match.Field.TOURNAMENT_ID,
+            Match.Field.HOME_TEAM_ID, Match.Field.AWAY_TEAM_ID, Match.Field.MATCH_DATE);
+
     private final MatchDao matchRepository;
     private final TeamDao teamRepository;
-    private final TeamService teamService;
+    private final TournamentDao tournamentRepository;
+    private final MatchEventService matchEventService;
+    private final LiveService liveService;
+    private final BracketService bracketService;
+    private final ScheduleService scheduleService;
 
     @Autowired
-    public MatchServiceImpl(MatchDao matchRepository, TeamDao teamRepository, TeamService teamService) {
+    public MatchServiceImpl(MatchDao matchRepository, TeamDao teamRepository, TournamentDao tournamentRepository,
+                            MatchEventService matchEventService, LiveService liveService, BracketService bracketService,
+                            ScheduleService scheduleService) {
         this.matchRepository = matchRepository;
         this.teamRepository = teamRepository;
-        this.teamService = teamService;
+        this.tournamentRepository = tournamentRepository;
+        this.matchEventService = matchEventService;
+        this.liveService = liveService;
+        this.bracketService = bracketService;
+        this.scheduleService = scheduleService;
     }
 
+    // Missing teams are rejected by the insert itself, which also returns the team names
     @Override
+    @Transactional
     public MatchDTO createMatch(MatchDTO matchDTO) {
-        // Validate that teams exist
-        verifyTeamExists(matchDTO.getHomeTeamId());
-        verifyTeamExists(matchDTO.getAwayTeamId());
+        Match match = newMatch(matchDTO);
+        scheduleService.validate(List.of(match));
+        Match savedMatch = matchRepository.save(match);
+        return convertToDTO(savedMatch);
+    }
+
+    @Override
+    @Transactional
+    public List<MatchDTO> createMatches(List<MatchDTO> matchDTOs) {
+        List<Match> matches = matchDTOs.stream()
+                .map(this::newMatch)
+                .collect(Collectors.toList());
+        // One check per tournament for the whole batch, including clashes within the batch
+        scheduleService.validate(matches);
+
+        List<MatchDTO> created = new ArrayList<>(matches.size());
+        for (int from = 0; from < matches.size(); from += CREATE_BATCH_SIZE) {
+            List<Match> batch = matches.subList(from, Math.min(from + CREATE_BATCH_SIZE, matches.size()));
+            for (Match match : matchRepository.saveAllReturning(batch)) {
+                created.add(convertToDTO(match));
+            }
+        }
+        return created;
+    }
 
+    private Match newMatch(MatchDTO matchDTO) {
         Match match = convertToEntity(matchDTO);
         match.setStatus("scheduled");
         if (match.getMatchDate() == null) {
             match.setMatchDate(LocalDateTime.now().plusDays(7)); // Default to one week from now
         }
-        Match savedMatch = matchRepository.save(match);
-        return enrichMatchDTO(convertToDTO(savedMatch));
+        return match;
     }
 
     @Override
@@ -55,15 +103,25 @@ public class MatchServiceImpl implements MatchService {
     public List<MatchDTO> getAllMatches() {
         return matchRepository.findAll().stream()
                 .map(this::convertToDTO)
-                .map(this::enrichMatchDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<MatchDTO> getMatchesPage(Long afterId, int limit) {
+        return matchRepository.findPage(afterId, limit).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void streamAllMatches(Consumer<MatchDTO> consumer) {
+        matchRepository.streamAll(match -> consumer.accept(convertToDTO(match)));
+    }
+
     @Override
     public List<MatchDTO> getMatchesByTournamentId(Long tournamentId) {
         return matchRepository.findByTournamentId(tournamentId).stream()
                 .map(this::convertToDTO)
-                .map(this::enrichMatchDTO)
                 .collect(Collectors.toList());
     }
 
@@ -71,21 +129,24 @@ public class MatchServiceImpl implements MatchService {
     public List<MatchDTO> getMatchesByTeamId(int teamId) {
         return matchRepository.findByTeamId(teamId).stream()
                 .map(this::convertToDTO)
-                .map(this::enrichMatchDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional
     public MatchDTO updateMatch(Long id, MatchDTO matchDTO) {
-        Match existingMatch = matchRepository.findById(id)
+        Match existingMatch = lockForWrite(id, matchDTO.getTournamentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
+        Match before = copyOf(existingMatch);
 
-        verifyTeamExists(matchDTO.getHomeTeamId());
-        verifyTeamExists(matchDTO.getAwayTeamId());
+        Team homeTeam = verifyTeamExists(matchDTO.getHomeTeamId());
+        Team awayTeam = verifyTeamExists(matchDTO.getAwayTeamId());
 
         existingMatch.setTournamentId(matchDTO.getTournamentId());
         existingMatch.setHomeTeamId(matchDTO.getHomeTeamId());
         existingMatch.setAwayTeamId(matchDTO.getAwayTeamId());
+        existingMatch.setHomeTeamName(homeTeam.getName());
+        existingMatch.setAwayTeamName(awayTeam.getName());
         existingMatch.setMatchDate(matchDTO.getMatchDate());
         existingMatch.setRound(matchDTO.getRound());
         existingMatch.setStatus(matchDTO.getStatus());
@@ -95,57 +156,103 @@ public class MatchServiceImpl implements MatchService {
             existingMatch.setAwayTeamScore(matchDTO.getAwayTeamScore());
         }
 
+        if (existingMatch.changedFields().stream().anyMatch(SCHEDULE_FIELDS::contains)) {
+            scheduleService.validate(List.of(existingMatch));
+        }
         matchRepository.update(existingMatch);
-        return enrichMatchDTO(convertToDTO(existingMatch));
+
+        matchEventService.resultChanged(before, existingMatch);
+        bracketService.invalidate(before.getTournamentId());
+        bracketService.invalidate(existingMatch.getTournamentId());
+
+        MatchDTO updatedMatch = enrichMatchDTO(convertToDTO(existingMatch));
+        liveService.publishMatch(updatedMatch);
+        return updatedMatch;
     }
 
     @Override
+    @Transactional
     public void deleteMatch(Long id) {
+        Match match = lockForWrite(id).orElse(null);
+
         matchRepository.deleteById(id);
+        matchEventService.resultChanged(match, null);
+        bracketService.invalidate(match != null ? match.getTournamentId() : null);
     }
 
     @Override
     @Transactional
     public MatchDTO recordMatchResult(Long id, Integer homeTeamScore, Integer awayTeamScore) {
-        Match match = matchRepository.findById(id)
+        Match match = lockForWrite(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Match not found with id: " + id));
+        Match before = copyOf(match);
 
         match.setHomeTeamScore(homeTeamScore);
         match.setAwayTeamScore(awayTeamScore);
         match.setStatus("completed");
         matchRepository.update(match);
 
-        updateTeamStats(match);
+        // Recording over an existing result is a correction, not a second game
+        matchEventService.resultChanged(before, match);
 
-        return enrichMatchDTO(convertToDTO(match));
+        List<Match> advanced = bracketService.advance(match);
+
+        MatchDTO result = enrichMatchDTO(convertToDTO(match));
+        liveService.publishMatch(result);
+        for (Match next : advanced) {
+            liveService.publishMatch(enrichMatchDTO(convertToDTO(next)));
+        }
+        return result;
     }
 
-    private void updateTeamStats(Match match) {
-        int homeTeamId = match.getHomeTeamId();
-        int awayTeamId = match.getAwayTeamId();
-        int homeScore = match.getHomeTeamScore();
-        int awayScore = match.getAwayTeamScore();
-
-        String homeResult;
-        String awayResult;
-
-        if (homeScore > awayScore) {
-            homeResult = "W";
-            awayResult = "L";
-        } else if (homeScore < awayScore) {
-            homeResult = "L";
-            awayResult = "W";
-        } else {
-            homeResult = "D";
-            awayResult = "D";
+    // Moves a whole round at once; nothing is saved if any moved match would clash
+    @Override
+    @Transactional
+    public List<MatchDTO> rescheduleRound(Long tournamentId, RescheduleRoundDTO request) {
+        List<Match> moved = scheduleService.planRound(tournamentId, request.getRound(), request.getStartsAt());
+        matchRepository.reschedule(moved);
+        bracketService.invalidate(tournamentId);
+
+        List<MatchDTO> rescheduled = new ArrayList<>(moved.size());
+        for (Match match : moved) {
+            MatchDTO dto = convertToDTO(match);
+            liveService.publishMatch(dto);
+            rescheduled.add(dto);
+        }
+        return rescheduled;
+    }
+
+    // Takes the row lock of the match's tournament, and of any tournament it is moving to, before the
+    // match is written: the event log, the bracket and the scheduler all lock the tournament before
+    // touching its matches, so a writer that locked the match row first could deadlock with them.
+    // The match is read again under the lock, since it may have changed while the lock was awaited.
+    private Optional<Match> lockForWrite(Long id, Long... movingTo) {
+        Optional<Match> match = matchRepository.findById(id);
+        if (match.isEmpty()) {
+            return match;
         }
+        List<Long> tournamentIds = new ArrayList<>(Arrays.asList(movingTo));
+        tournamentIds.add(match.get().getTournamentId());
+        tournamentRepository.lockAllById(tournamentIds);
 
-        teamService.updateTeamStats(homeTeamId, homeScore, awayScore, homeResult);
-        teamService.updateTeamStats(awayTeamId, awayScore, homeScore, awayResult);
+        Optional<Match> locked = matchRepository.findById(id);
+        if (locked.isPresent() && locked.get().getTournamentId() != null
+                && !tournamentIds.contains(locked.get().getTournamentId())) {
+            // Moved to another tournament while we waited; lock that one as well
+            tournamentRepository.lockById(locked.get().getTournamentId());
+        }
+        return locked;
+    }
+
+    private static Match copyOf(Match match) {
+        return new Match(match.getId(), match.getTournamentId(), match.getHomeTeamId(), match.getAwayTeamId(),
+                match.getHomeTeamScore(), match.getAwayTeamScore(), match.getMatchDate(), match.getStatus(),
+                match.getRound(), match.getCreatedAt(), match.getUpdatedAt(), match.getHomeTeamName(),
+                match.getAwayTeamName(), match.getBracketSlot(), match.getVersion());
     }
 
-    private void verifyTeamExists(int teamId) {
-        teamRepository.findById(teamId)
+    private Team verifyTeamExists(int teamId) {
+        return teamRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
     }
 
@@ -160,8 +267,9 @@ public class MatchServiceImpl implements MatchService {
                 match.getMatchDate(),
                 match.getStatus(),
                 match.getRound(),
-                null,
-                null
+                match.getHomeTeamName(),
+                match.getAwayTeamName(),
+                match.getBracketSlot()
         );
     }
 
@@ -179,12 +287,17 @@ public class MatchServiceImpl implements MatchService {
         return match;
     }
 
+    // Fallback for matches that were not loaded through the joined queries in MatchDao
     private MatchDTO enrichMatchDTO(MatchDTO matchDTO) {
-        teamRepository.findById(matchDTO.getHomeTeamId())
-                .ifPresent(team -> matchDTO.setHomeTeamName(team.getName()));
+        if (matchDTO.getHomeTeamName() == null) {
+            teamRepository.findById(matchDTO.getHomeTeamId())
+                    .ifPresent(team -> matchDTO.setHomeTeamName(team.getName()));
+        }
 
-        teamRepository.findById(matchDTO.getAwayTeamId())
-                .ifPresent(team -> matchDTO.setAwayTeamName(team.getName()));
+        if (matchDTO.getAwayTeamName() == null) {
+            teamRepository.findById(matchDTO.getAwayTeamId())
+                    .ifPresent(team -> matchDTO.setAwayTeamName(team.getName()));
+        }
 
         return matchDTO;
     }
@@ -0,0 +1,139 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
+import com.example.tournamentbackend.exception.ConflictException;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.schedule.TournamentSchedule;
+import com.example.tournamentbackend.service.ScheduleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Checks kick-off times against the rest of the tournament so no team is booked into two matches at
+// once. A check only loads the matches of the teams involved that kick off within one slot of the new
+// ones, which for a single new match is a handful of rows rather than the whole season. The writes
+// that call it hold the tournament row lock, so two of them cannot both pass against the same old
+// schedule.
+@Service
+public class ScheduleServiceImpl implements ScheduleService {
+
+    private final MatchDao matchRepository;
+    private final TournamentDao tournamentRepository;
+    private final long slotMinutes;
+
+    @Autowired
+    public ScheduleServiceImpl(MatchDao matchRepository, TournamentDao tournamentRepository,
+                               @Value("${schedule.match-slot-minutes:120}") long slotMinutes) {
+        this.matchRepository = matchRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.slotMinutes = slotMinutes;
+    }
+
+    // New or changed matches, checked against the saved state of their tournaments. Must run in the
+    // transaction that saves them.
+    @Override
+    public void validate(List<Match> matches) {
+        Map<Long, List<Match>> byTournament = new TreeMap<>();
+        for (Match match : matches) {
+            if (match.getTournamentId() != null && match.getMatchDate() != null) {
+                byTournament.computeIfAbsent(match.getTournamentId(), id -> new ArrayList<>()).add(match);
+            }
+        }
+
+        // Usually already held by the caller; taking it again is a no-op
+        tournamentRepository.lockAllById(byTournament.keySet());
+        for (Map.Entry<Long, List<Match>> entry : byTournament.entrySet()) {
+            List<Match> candidates = entry.getValue();
+            Set<Long> candidateIds = new HashSet<>();
+            Set<Integer> teamIds = new HashSet<>();
+            LocalDateTime earliest = null;
+            LocalDateTime latest = null;
+            for (Match candidate : candidates) {
+                if (candidate.getId() != null) {
+                    candidateIds.add(candidate.getId());
+                }
+                teamIds.add(candidate.getHomeTeamId());
+                teamIds.add(candidate.getAwayTeamId());
+                if (earliest == null || candidate.getMatchDate().isBefore(earliest)) {
+                    earliest = candidate.getMatchDate();
+                }
+                if (latest == null || candidate.getMatchDate().isAfter(latest)) {
+                    latest = candidate.getMatchDate();
+                }
+            }
+
+            // Only a match starting less than one slot away from a candidate can overlap it
+            List<Match> nearby = matchRepository.findByTournamentIdAndTeams(entry.getKey(), new ArrayList<>(teamIds),
+                    earliest.minusMinutes(slotMinutes), latest.plusMinutes(slotMinutes));
+            nearby.removeIf(match -> candidateIds.contains(match.getId()));
+            nearby.addAll(candidates);
+            reject(new TournamentSchedule(nearby, slotMinutes).conflictsInvolving(candidates));
+        }
+    }
+
+    @Override
+    public List<ScheduleConflictDTO> getConflicts(Long tournamentId) {
+        tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+        return new TournamentSchedule(matchRepository.findByTournamentId(tournamentId), slotMinutes).conflicts();
+    }
+
+    // Moves the round's unplayed matches so the earliest kicks off at startsAt and the rest keep their
+    // spacing, and checks the result against the whole tournament. The moved matches are returned
+    // unsaved; must run in the transaction that saves them.
+    @Override
+    public List<Match> planRound(Long tournamentId, String round, LocalDateTime startsAt) {
+        tournamentRepository.lockById(tournamentId);
+        List<Match> matchesInTournament = matchRepository.findByTournamentId(tournamentId);
+
+        List<Match> moved = new ArrayList<>();
+        LocalDateTime earliest = null;
+        for (Match match : matchesInTournament) {
+            if (Objects.equals(round, match.getRound()) && "scheduled".equalsIgnoreCase(match.getStatus())
+                    && match.getMatchDate() != null) {
+                moved.add(match);
+                if (earliest == null || match.getMatchDate().isBefore(earliest)) {
+                    earliest = match.getMatchDate();
+                }
+            }
+        }
+        if (moved.isEmpty()) {
+            throw new ResourceNotFoundException("No scheduled matches in round '" + round
+                    + "' of tournament with id: " + tournamentId);
+        }
+
+        Duration shift = Duration.between(earliest, startsAt);
+        for (Match match : moved) {
+            match.setMatchDate(match.getMatchDate().plus(shift));
+        }
+        reject(new TournamentSchedule(matchesInTournament, slotMinutes).conflictsInvolving(moved));
+        return moved;
+    }
+
+    private static void reject(List<ScheduleConflictDTO> conflicts) {
+        if (conflicts.isEmpty()) {
+            return;
+        }
+        ScheduleConflictDTO first = conflicts.get(0);
+        String message = "Team " + first.getTeamId() + " is already playing match "
+                + (first.getConflictingMatchId() != null ? first.getConflictingMatchId() : "(new)")
+                + " at " + first.getConflictingMatchDate();
+        if (conflicts.size() > 1) {
+            message += " (" + (conflicts.size() - 1) + " more conflicts)";
+        }
+        throw new ConflictException(message);
+    }
+}
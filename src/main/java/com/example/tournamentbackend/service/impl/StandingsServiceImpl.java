@@ -0,0 +1,180 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.MatchEventDao;
+import com.example.tournamentbackend.dao.StandingsSnapshotDao;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.StandingDTO;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.MatchEvent;
+import com.example.tournamentbackend.model.StandingsSnapshot;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.routing.ReadRouting;
+import com.example.tournamentbackend.service.StandingsService;
+import com.example.tournamentbackend.standings.CountedResult;
+import com.example.tournamentbackend.standings.StandingsTable;
+import com.example.tournamentbackend.standings.TieBreaker;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Tables are rebuilt from the latest snapshot plus the match events logged after it. A tournament
+// without a snapshot is counted once from the matches table, which becomes its first snapshot.
+@Service
+public class StandingsServiceImpl implements StandingsService {
+
+    private static final TypeReference<List<CountedResult>> SNAPSHOT_STATE = new TypeReference<>() {
+    };
+
+    private final MatchDao matchRepository;
+    private final TeamDao teamRepository;
+    private final TournamentDao tournamentRepository;
+    private final MatchEventDao matchEventRepository;
+    private final StandingsSnapshotDao snapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int snapshotEveryEvents;
+    private final List<TieBreaker> tieBreakers;
+    private final Map<Long, StandingsTable> tables = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StandingsServiceImpl(MatchDao matchRepository, TeamDao teamRepository, TournamentDao tournamentRepository,
+                                MatchEventDao matchEventRepository, StandingsSnapshotDao snapshotRepository,
+                                TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                                @Value("${standings.snapshot-every-events:100}") int snapshotEveryEvents,
+                                @Value("${standings.tie-breakers:head-to-head,goal-difference,goals-scored}") String tieBreakers) {
+        this.matchRepository = matchRepository;
+        this.teamRepository = teamRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.snapshotEveryEvents = snapshotEveryEvents;
+        this.tieBreakers = Arrays.stream(tieBreakers.split(","))
+                .filter(value -> !value.isBlank())
+                .map(TieBreaker::fromProperty)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<StandingDTO> getStandings(Long tournamentId) {
+        return tables.computeIfAbsent(tournamentId, id -> ReadRouting.onPrimary(() -> loadTable(id))).getStandings();
+    }
+
+    // Tables that haven't been loaded yet will pick the events up from the log
+    @Override
+    public void applyEvents(List<MatchEvent> events) {
+        afterCommit(() -> {
+            for (MatchEvent event : events) {
+                tables.computeIfPresent(event.getTournamentId(), (tournamentId, table) -> {
+                    table.apply(event);
+                    return table;
+                });
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long tournamentId) {
+        // Dropped tables are rebuilt from the snapshot and event log on the next read
+        if (tournamentId != null) {
+            afterCommit(() -> tables.remove(tournamentId));
+        }
+    }
+
+    // Changes made inside a transaction only reach the tables once they are visible to a reload
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private StandingsTable loadTable(Long tournamentId) {
+        tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tournament not found with id: " + tournamentId));
+
+        StandingsTable table = new StandingsTable(tieBreakers);
+        for (Team team : teamRepository.findByTournamentId(tournamentId)) {
+            table.addTeam(team.getId(), team.getName());
+        }
+
+        Optional<StandingsSnapshot> snapshot = snapshotRepository.findByTournamentId(tournamentId);
+        long lastEventId = snapshot.isPresent()
+                ? restore(table, snapshot.get())
+                : countFromMatches(tournamentId, table);
+
+        List<MatchEvent> events = matchEventRepository.findByTournamentIdAfter(tournamentId, lastEventId);
+        for (MatchEvent event : events) {
+            table.apply(event);
+            lastEventId = event.getId();
+        }
+
+        if (snapshot.isEmpty() || events.size() >= snapshotEveryEvents) {
+            saveSnapshot(tournamentId, lastEventId, table);
+        }
+        return table;
+    }
+
+    private long restore(StandingsTable table, StandingsSnapshot snapshot) {
+        try {
+            table.restore(objectMapper.readValue(snapshot.getState(), SNAPSHOT_STATE));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Corrupt standings snapshot for tournament " + snapshot.getTournamentId(), e);
+        }
+        return snapshot.getLastEventId();
+    }
+
+    // Result events for a tournament are appended under its row lock, so holding that lock while
+    // reading the last event id and the matches gives a state that lines up with the log exactly
+    private long countFromMatches(Long tournamentId, StandingsTable table) {
+        return transactionTemplate.execute(status -> {
+            tournamentRepository.lockById(tournamentId);
+            long lastEventId = matchEventRepository.findLastIdByTournamentId(tournamentId);
+            for (Match match : matchRepository.findByTournamentId(tournamentId)) {
+                if (isCompleted(match)) {
+                    table.apply(match);
+                }
+            }
+            return lastEventId;
+        });
+    }
+
+    private void saveSnapshot(Long tournamentId, long lastEventId, StandingsTable table) {
+        try {
+            String state = objectMapper.writeValueAsString(table.countedResults());
+            snapshotRepository.save(new StandingsSnapshot(tournamentId, lastEventId, state, null));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Only makes the next load replay more events
+            System.out.println("Could not save standings snapshot for tournament " + tournamentId + ": " + e.getMessage());
+        }
+    }
+
+    private boolean isCompleted(Match match) {
+        return "completed".equalsIgnoreCase(match.getStatus())
+                && match.getHomeTeamScore() != null
+                && match.getAwayTeamScore() != null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dto.FormDTO;
+import com.example.tournamentbackend.dto.HeadToHeadDTO;
+import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.form.TeamHistory;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.routing.ReadRouting;
+import com.example.tournamentbackend.service.TeamFormService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Form guides and head-to-heads come from an in-memory result history per team. A team's history
+// is read from the database the first time it is asked for; after that every committed result
+// change is applied to the histories already loaded, so reads never go back to the database.
+@Service
+public class TeamFormServiceImpl implements TeamFormService {
+
+    private final MatchDao matchRepository;
+    private final TeamDao teamRepository;
+    private final Map<Integer, TeamHistory> histories = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TeamFormServiceImpl(MatchDao matchRepository, TeamDao teamRepository) {
+        this.matchRepository = matchRepository;
+        this.teamRepository = teamRepository;
+    }
+
+    @Override
+    public FormDTO getForm(int teamId, int n) {
+        return historyOf(teamId).form(n);
+    }
+
+    @Override
+    public HeadToHeadDTO getHeadToHead(int teamId, int opponentId) {
+        historyOf(opponentId);
+        return historyOf(teamId).against(opponentId);
+    }
+
+    // Covers new results, corrections, reschedules, moves between teams and deletions alike
+    @Override
+    public void matchChanged(Match before, Match after) {
+        afterCommit(() -> {
+            if (before != null) {
+                forget(before.getHomeTeamId(), before.getId());
+                forget(before.getAwayTeamId(), before.getId());
+            }
+            if (after != null) {
+                record(after.getHomeTeamId(), after);
+                record(after.getAwayTeamId(), after);
+            }
+        });
+    }
+
+    @Override
+    public void matchesRecorded(List<Match> matches) {
+        afterCommit(() -> {
+            for (Match match : matches) {
+                record(match.getHomeTeamId(), match);
+                record(match.getAwayTeamId(), match);
+            }
+        });
+    }
+
+    // Deleting a team or a tournament cascades to its matches without going through the services
+    @Override
+    public void invalidateAll() {
+        afterCommit(histories::clear);
+    }
+
+    // Only the first read of a team waits for the database; an unknown team is not cached
+    private TeamHistory historyOf(int teamId) {
+        return histories.computeIfAbsent(teamId, id -> ReadRouting.onPrimary(() -> {
+            teamRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
+            return TeamHistory.of(id, matchRepository.findByTeamId(id));
+        }));
+    }
+
+    private void record(int teamId, Match match) {
+        histories.computeIfPresent(teamId, (id, history) -> history.with(match));
+    }
+
+    private void forget(int teamId, Long matchId) {
+        if (matchId != null) {
+            histories.computeIfPresent(teamId, (id, history) -> history.without(matchId));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
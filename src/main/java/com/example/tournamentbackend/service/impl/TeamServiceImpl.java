@@ -2,23 +2,58 @@ package com.example.tournamentbackend.service.impl;
 
 import com.example.tournamentbackend.dto.TeamDTO;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.MatchEvent;
 import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import com.example.tournamentbackend.dao.MatchDao;
+import com.example.tournamentbackend.dao.MatchEventDao;
 import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.LogoService;
+import com.example.tournamentbackend.service.StandingsService;
+import com.example.tournamentbackend.service.TeamFormService;
 import com.example.tournamentbackend.service.TeamService;
+import com.example.tournamentbackend.stats.TeamStatsWriteBehind;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class TeamServiceImpl implements TeamService {
 
     private final TeamDao teamRepository;
+    private final TournamentDao tournamentRepository;
+    private final MatchDao matchRepository;
+    private final MatchEventDao matchEventRepository;
+    private final StandingsService standingsService;
+    private final BracketService bracketService;
+    private final LogoService logoService;
+    private final TeamStatsWriteBehind statsWriteBehind;
+    private final TeamFormService teamFormService;
 
     @Autowired
-    public TeamServiceImpl(TeamDao teamRepository) {
+    public TeamServiceImpl(TeamDao teamRepository, TournamentDao tournamentRepository, MatchDao matchRepository,
+                           MatchEventDao matchEventRepository, StandingsService standingsService,
+                           BracketService bracketService, LogoService logoService,
+                           TeamStatsWriteBehind statsWriteBehind, TeamFormService teamFormService) {
         this.teamRepository = teamRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.matchEventRepository = matchEventRepository;
+        this.standingsService = standingsService;
+        this.bracketService = bracketService;
+        this.logoService = logoService;
+        this.statsWriteBehind = statsWriteBehind;
+        this.teamFormService = teamFormService;
     }
 
     @Override
@@ -40,20 +75,34 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     public TeamDTO getTeamById(int id) {
-        Team team = teamRepository.findById(id)
+        Team team = statsWriteBehind.readTeam(() -> teamRepository.findById(id))
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
         return convertToDTO(team);
     }
 
     @Override
     public List<TeamDTO> getAllTeams() {
-        return teamRepository.findAll().stream()
+        return statsWriteBehind.readTeams(teamRepository::findAll).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TeamDTO> getTeamsPage(Integer afterId, int limit) {
+        return statsWriteBehind.readTeams(() -> teamRepository.findPage(afterId, limit)).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void streamAllTeams(Consumer<TeamDTO> consumer) {
+        teamRepository.streamAll(team -> consumer.accept(convertToDTO(statsWriteBehind.mergePending(team))));
+    }
+
     @Override
     public TeamDTO updateTeam(int id, TeamDTO teamDTO) {
+        // Stats are overwritten below, so queued results must land first or they would be added on top
+        statsWriteBehind.flush();
         Team existingTeam = teamRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + id));
 
@@ -72,14 +121,41 @@ public class TeamServiceImpl implements TeamService {
         return convertToDTO(existingTeam);
     }
 
+    // The delete cascades to the team's matches, so their tournaments are locked first like any other
+    // match write. Their results leave the event log as voided, and the tables and brackets that
+    // counted them are rebuilt once the delete commits.
     @Override
+    @Transactional
     public void deleteTeam(int id) {
+        tournamentRepository.lockAllByTeamId(id);
+
+        List<Match> matches = matchRepository.findByTeamId(id);
+        List<MatchEvent> voided = new ArrayList<>();
+        Set<Long> tournamentIds = new TreeSet<>();
+        for (Match match : matches) {
+            if (match.getTournamentId() == null) {
+                continue;
+            }
+            tournamentIds.add(match.getTournamentId());
+            if (isCounted(match)) {
+                voided.add(new MatchEvent(null, match.getId(), match.getTournamentId(), MatchEvent.VOIDED,
+                        match.getHomeTeamId(), match.getAwayTeamId(), null, null, null));
+            }
+        }
+        matchEventRepository.saveAll(voided);
+
         teamRepository.deleteById(id);
+        for (Long tournamentId : tournamentIds) {
+            standingsService.invalidate(tournamentId);
+            bracketService.invalidate(tournamentId);
+        }
+        logoService.evict(id);
+        teamFormService.invalidateAll();
     }
 
     @Override
     public List<TeamDTO> getTeamsByTournamentId(Long tournamentId) {
-        return teamRepository.findByTournamentId(tournamentId).stream()
+        return statsWriteBehind.readTeams(() -> teamRepository.findByTournamentId(tournamentId)).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -90,49 +166,24 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
 
         teamRepository.addTeamToTournament(teamId, tournamentId);
+        standingsService.invalidate(tournamentId);
     }
 
     @Override
     public void removeTeamFromTournament(int teamId, Long tournamentId) {
         teamRepository.removeTeamFromTournament(teamId, tournamentId);
+        standingsService.invalidate(tournamentId);
     }
 
     @Override
     public void updateTeamStats(int teamId, int goalsScored, int goalsConceded, String result) {
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
-
-        team.setPlayed(team.getPlayed() + 1);
-        team.setGoalsScored(team.getGoalsScored() + goalsScored);
-        team.setGoalsConceded(team.getGoalsConceded() + goalsConceded);
-        team.setGoalDifference(team.getGoalsScored() - team.getGoalsConceded());
-
-        String last5Games = team.getLast5Games();
-        if (last5Games.length() >= 5) {
-            last5Games = last5Games.substring(1);
-        }
-
-        switch (result) {
-            case "W":
-                team.setWins(team.getWins() + 1);
-                team.setPoints(team.getPoints() + 3);
-                last5Games += "W";
-                break;
-            case "D":
-                team.setDraws(team.getDraws() + 1);
-                team.setPoints(team.getPoints() + 1);
-                last5Games += "D";
-                break;
-            case "L":
-                team.setLosses(team.getLosses() + 1);
-                last5Games += "L";
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid match result: " + result);
-        }
+        updateTeamStats(List.of(TeamStatsDelta.fromResult(teamId, goalsScored, goalsConceded, result)));
+    }
 
-        team.setLast5Games(last5Games);
-        teamRepository.update(team);
+    @Override
+    @Transactional
+    public void updateTeamStats(List<TeamStatsDelta> deltas) {
+        statsWriteBehind.submit(deltas);
     }
 
     @Override
@@ -141,6 +192,7 @@ public class TeamServiceImpl implements TeamService {
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found with id: " + teamId));
         team.setLogoPath(logoPath);
         teamRepository.update(team);
+        logoService.evict(teamId);
     }
 
     private TeamDTO convertToDTO(Team team) {
@@ -173,7 +225,14 @@ public class TeamServiceImpl implements TeamService {
                 teamDTO.getGoalsConceded(),
                 teamDTO.getLast5Games(),
                 teamDTO.getPoints(),
-                teamDTO.getLogoPath()
+                teamDTO.getLogoPath(),
+                0
         );
     }
-}
\ No newline at end of file
+
+    private static boolean isCounted(Match match) {
+        return "completed".equalsIgnoreCase(match.getStatus())
+                && match.getHomeTeamScore() != null
+                && match.getAwayTeamScore() != null;
+    }
+}
@@ -4,21 +4,33 @@ import com.example.tournamentbackend.dto.TournamentDTO;
 import com.example.tournamentbackend.exception.ResourceNotFoundException;
 import com.example.tournamentbackend.model.Tournament;
 import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.service.BracketService;
+import com.example.tournamentbackend.service.StandingsService;
+import com.example.tournamentbackend.service.TeamFormService;
 import com.example.tournamentbackend.service.TournamentService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class TournamentServiceImpl implements TournamentService {
 
     private final TournamentDao tournamentRepository;
+    private final StandingsService standingsService;
+    private final BracketService bracketService;
+    private final TeamFormService teamFormService;
 
     @Autowired
-    public TournamentServiceImpl(TournamentDao tournamentRepository) {
+    public TournamentServiceImpl(TournamentDao tournamentRepository, StandingsService standingsService,
+                                 BracketService bracketService, TeamFormService teamFormService) {
         this.tournamentRepository = tournamentRepository;
+        this.standingsService = standingsService;
+        this.bracketService = bracketService;
+        this.teamFormService = teamFormService;
     }
 
     @Override
@@ -42,6 +54,18 @@ public class TournamentServiceImpl implements TournamentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TournamentDTO> getTournamentsPage(Long afterId, int limit) {
+        return tournamentRepository.findPage(afterId, limit).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void streamAllTournaments(Consumer<TournamentDTO> consumer) {
+        tournamentRepository.streamAll(tournament -> consumer.accept(convertToDTO(tournament)));
+    }
+
     @Override
     public TournamentDTO updateTournament(Long id, TournamentDTO tournamentDTO) {
         Tournament existingTournament = tournamentRepository.findById(id)
@@ -58,9 +82,16 @@ public class TournamentServiceImpl implements TournamentService {
         return convertToDTO(existingTournament);
     }
 
+    // Its matches, match events and standings snapshot go with it; the lock waits out any match write
+    // still in flight, and the cached table and bracket are dropped once the delete commits
     @Override
+    @Transactional
     public void deleteTournament(Long id) {
+        tournamentRepository.lockById(id);
         tournamentRepository.deleteById(id);
+        standingsService.invalidate(id);
+        bracketService.invalidate(id);
+        teamFormService.invalidateAll();
     }
 
     private TournamentDTO convertToDTO(Tournament tournament) {
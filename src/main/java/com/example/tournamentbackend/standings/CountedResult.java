@@ -0,0 +1,19 @@
+package com.example.tournamentbackend.standings;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A result as counted in a standings table; also the unit stored in standings snapshots
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CountedResult {
+    private long matchId;
+    // Event that produced this result, 0 when it was loaded straight from the matches table
+    private long eventId;
+    private int homeTeamId;
+    private int awayTeamId;
+    private int homeTeamScore;
+    private int awayTeamScore;
+}
@@ -0,0 +1,311 @@
+package com.example.tournamentbackend.standings;
+
+import com.example.tournamentbackend.dto.StandingDTO;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.MatchEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+// Materialized league table for one tournament: results are folded in one match at a time
+// and the sorted view is rebuilt lazily on the next read. Corrections and voided results from the
+// match event log replace the counted result and refold the table, which keeps the form guide exact.
+public class StandingsTable {
+
+    private static final Comparator<Row> BY_NAME = Comparator
+            .comparing((Row row) -> row.teamName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingInt(row -> row.teamId);
+
+    private final List<TieBreaker> tieBreakers;
+    private final Map<Integer, Row> rows = new HashMap<>();
+    // Points each side took from their meetings, keyed by the ordered team pair
+    private final Map<Long, int[]> headToHeadPoints = new HashMap<>();
+    // Counted results in the order they were counted, keyed by match id
+    private final Map<Long, CountedResult> results = new LinkedHashMap<>();
+    // Id of the voiding event for matches whose result was taken out again
+    private final Map<Long, Long> voidedAt = new HashMap<>();
+    private volatile List<StandingDTO> snapshot;
+
+    public StandingsTable(List<TieBreaker> tieBreakers) {
+        this.tieBreakers = List.copyOf(tieBreakers);
+    }
+
+    public synchronized void addTeam(int teamId, String teamName) {
+        rows.computeIfAbsent(teamId, id -> new Row(id, teamName));
+        snapshot = null;
+    }
+
+    // A match that was already counted is ignored; corrections come in as match events
+    public synchronized void apply(Match match) {
+        if (match.getId() != null && (results.containsKey(match.getId()) || voidedAt.containsKey(match.getId()))) {
+            return;
+        }
+        Row home = rows.computeIfAbsent(match.getHomeTeamId(), id -> new Row(id, match.getHomeTeamName()));
+        Row away = rows.computeIfAbsent(match.getAwayTeamId(), id -> new Row(id, match.getAwayTeamName()));
+
+        CountedResult result = new CountedResult(match.getId() != null ? match.getId() : 0, 0,
+                match.getHomeTeamId(), match.getAwayTeamId(), match.getHomeTeamScore(), match.getAwayTeamScore());
+        if (match.getId() != null) {
+            results.put(match.getId(), result);
+        }
+        count(home, away, result);
+        snapshot = null;
+    }
+
+    // Events may arrive out of order across threads; anything older than what was counted is ignored
+    public synchronized void apply(MatchEvent event) {
+        long matchId = event.getMatchId();
+        CountedResult counted = results.get(matchId);
+        long lastEventId = counted != null ? counted.getEventId() : voidedAt.getOrDefault(matchId, -1L);
+        if (event.getId() <= lastEventId) {
+            return;
+        }
+
+        if (MatchEvent.VOIDED.equals(event.getType())) {
+            voidedAt.put(matchId, event.getId());
+            if (results.remove(matchId) != null) {
+                refold();
+            }
+            snapshot = null;
+            return;
+        }
+
+        voidedAt.remove(matchId);
+        CountedResult result = new CountedResult(matchId, event.getId(), event.getHomeTeamId(), event.getAwayTeamId(),
+                event.getHomeTeamScore(), event.getAwayTeamScore());
+        results.put(matchId, result);
+        if (counted != null) {
+            refold();
+        } else {
+            count(rows.computeIfAbsent(result.getHomeTeamId(), id -> new Row(id, null)),
+                    rows.computeIfAbsent(result.getAwayTeamId(), id -> new Row(id, null)), result);
+        }
+        snapshot = null;
+    }
+
+    public synchronized List<CountedResult> countedResults() {
+        return new ArrayList<>(results.values());
+    }
+
+    public synchronized void restore(List<CountedResult> counted) {
+        results.clear();
+        voidedAt.clear();
+        for (CountedResult result : counted) {
+            results.put(result.getMatchId(), result);
+        }
+        refold();
+        snapshot = null;
+    }
+
+    // Rows without a name were only created for results; once those results are gone (a deleted
+    // team's matches voided, say) the rows go too
+    private void refold() {
+        rows.values().removeIf(row -> row.teamName == null);
+        for (Row row : rows.values()) {
+            row.reset();
+        }
+        headToHeadPoints.clear();
+        for (CountedResult result : results.values()) {
+            count(rows.computeIfAbsent(result.getHomeTeamId(), id -> new Row(id, null)),
+                    rows.computeIfAbsent(result.getAwayTeamId(), id -> new Row(id, null)), result);
+        }
+    }
+
+    private void count(Row home, Row away, CountedResult result) {
+        int homeScore = result.getHomeTeamScore();
+        int awayScore = result.getAwayTeamScore();
+        home.record(homeScore, awayScore);
+        away.record(awayScore, homeScore);
+
+        int homePoints = pointsFor(homeScore, awayScore);
+        int awayPoints = pointsFor(awayScore, homeScore);
+        int[] pair = headToHeadPoints.computeIfAbsent(pairKey(home.teamId, away.teamId), key -> new int[2]);
+        if (home.teamId < away.teamId) {
+            pair[0] += homePoints;
+            pair[1] += awayPoints;
+        } else {
+            pair[0] += awayPoints;
+            pair[1] += homePoints;
+        }
+    }
+
+    public List<StandingDTO> getStandings() {
+        List<StandingDTO> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = buildSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    private List<StandingDTO> buildSnapshot() {
+        List<Row> byPoints = new ArrayList<>(rows.values());
+        byPoints.sort(Comparator.comparingInt((Row row) -> row.points).reversed());
+
+        List<Row> ordered = new ArrayList<>(byPoints.size());
+        for (List<Row> group : splitRuns(byPoints, row -> row.points)) {
+            orderTiedGroup(group, 0, ordered);
+        }
+
+        List<StandingDTO> standings = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            standings.add(ordered.get(i).toDTO(i + 1));
+        }
+        return Collections.unmodifiableList(standings);
+    }
+
+    private void orderTiedGroup(List<Row> group, int breakerIndex, List<Row> out) {
+        if (group.size() == 1) {
+            out.add(group.get(0));
+            return;
+        }
+        if (breakerIndex == tieBreakers.size()) {
+            group.sort(BY_NAME);
+            out.addAll(group);
+            return;
+        }
+
+        TieBreaker breaker = tieBreakers.get(breakerIndex);
+        Map<Integer, Integer> keys = new HashMap<>();
+        for (Row row : group) {
+            keys.put(row.teamId, tieBreakerKey(breaker, row, group));
+        }
+
+        List<Row> sorted = new ArrayList<>(group);
+        sorted.sort(Comparator.comparingInt((Row row) -> keys.get(row.teamId)).reversed());
+        for (List<Row> subGroup : splitRuns(sorted, row -> keys.get(row.teamId))) {
+            orderTiedGroup(subGroup, breakerIndex + 1, out);
+        }
+    }
+
+    private int tieBreakerKey(TieBreaker breaker, Row row, List<Row> group) {
+        switch (breaker) {
+            case GOAL_DIFFERENCE:
+                return row.goalsScored - row.goalsConceded;
+            case GOALS_SCORED:
+                return row.goalsScored;
+            case HEAD_TO_HEAD:
+                // Mini-league among the tied teams only
+                int points = 0;
+                for (Row other : group) {
+                    if (other.teamId == row.teamId) {
+                        continue;
+                    }
+                    int[] pair = headToHeadPoints.get(pairKey(row.teamId, other.teamId));
+                    if (pair != null) {
+                        points += row.teamId < other.teamId ? pair[0] : pair[1];
+                    }
+                }
+                return points;
+            default:
+                throw new IllegalArgumentException("Unsupported tie-breaker: " + breaker);
+        }
+    }
+
+    private static List<List<Row>> splitRuns(List<Row> sorted, ToIntFunction<Row> key) {
+        List<List<Row>> runs = new ArrayList<>();
+        List<Row> current = new ArrayList<>();
+        for (Row row : sorted) {
+            if (!current.isEmpty() && key.applyAsInt(current.get(0)) != key.applyAsInt(row)) {
+                runs.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(row);
+        }
+        if (!current.isEmpty()) {
+            runs.add(current);
+        }
+        return runs;
+    }
+
+    private static int pointsFor(int goalsFor, int goalsAgainst) {
+        if (goalsFor > goalsAgainst) {
+            return 3;
+        }
+        return goalsFor == goalsAgainst ? 1 : 0;
+    }
+
+    private static long pairKey(int teamA, int teamB) {
+        int low = Math.min(teamA, teamB);
+        int high = Math.max(teamA, teamB);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    private static final class Row {
+        private final int teamId;
+        private final String teamName;
+        private int played;
+        private int wins;
+        private int draws;
+        private int losses;
+        private int goalsScored;
+        private int goalsConceded;
+        private int points;
+        private String last5Games = "";
+
+        private Row(int teamId, String teamName) {
+            this.teamId = teamId;
+            this.teamName = teamName;
+        }
+
+        private void reset() {
+            played = 0;
+            wins = 0;
+            draws = 0;
+            losses = 0;
+            goalsScored = 0;
+            goalsConceded = 0;
+            points = 0;
+            last5Games = "";
+        }
+
+        private void record(int goalsFor, int goalsAgainst) {
+            played++;
+            goalsScored += goalsFor;
+            goalsConceded += goalsAgainst;
+
+            String result;
+            if (goalsFor > goalsAgainst) {
+                wins++;
+                result = "W";
+            } else if (goalsFor < goalsAgainst) {
+                losses++;
+                result = "L";
+            } else {
+                draws++;
+                result = "D";
+            }
+            points += pointsFor(goalsFor, goalsAgainst);
+
+            String form = last5Games + result;
+            last5Games = form.length() > 5 ? form.substring(form.length() - 5) : form;
+        }
+
+        private StandingDTO toDTO(int position) {
+            return new StandingDTO(
+                    position,
+                    teamId,
+                    teamName,
+                    played,
+                    wins,
+                    draws,
+                    losses,
+                    goalsScored,
+                    goalsConceded,
+                    goalsScored - goalsConceded,
+                    points,
+                    last5Games
+            );
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.tournamentbackend.standings;
+
+public enum TieBreaker {
+    HEAD_TO_HEAD,
+    GOAL_DIFFERENCE,
+    GOALS_SCORED;
+
+    // Accepts property-style names such as "head-to-head" or "goal_difference"
+    public static TieBreaker fromProperty(String value) {
+        String normalized = value.trim().toUpperCase().replace('-', '_');
+        try {
+            return TieBreaker.valueOf(normalized);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid tie-breaker: " + value);
+        }
+    }
+}
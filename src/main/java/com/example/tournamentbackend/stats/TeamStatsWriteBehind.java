@@ -0,0 +1,247 @@
+package com.example.tournamentbackend.stats;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import com.example.tournamentbackend.routing.ReadRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+// Optional write-behind for team statistics. A result records its deltas as rows of a pending table
+// in its own transaction, which is cheap next to updating the hot team rows and commits or rolls back
+// with the result. Committed deltas are coalesced per team in memory and flushed as one batched
+// UPDATE per team on a schedule, deleting their pending rows in the same transaction. Until a delta
+// is in the teams table, reads of that team have it merged in, so callers always see their own results.
+//
+// A flush commits under the write lock and reads hold the read lock from query to merge, so a read
+// never sees a delta both in the row and in memory. When disabled every call passes straight through.
+@Component
+public class TeamStatsWriteBehind {
+
+    private static final Logger log = LoggerFactory.getLogger(TeamStatsWriteBehind.class);
+
+    private final TeamDao teamRepository;
+    private final ResourceVersions resourceVersions;
+    private final boolean enabled;
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final Object flushMonitor = new Object();
+    private final ScheduledExecutorService scheduler;
+    // Committed deltas not yet handed to a flush, and the pending rows they came from
+    private Map<Integer, TeamStatsDelta> pending = new HashMap<>();
+    private List<Long> pendingIds = new ArrayList<>();
+    // Batches taken by a flush but not yet applied, oldest first
+    private final Deque<Batch> sealed = new ArrayDeque<>();
+
+    @Autowired
+    public TeamStatsWriteBehind(TeamDao teamRepository, ResourceVersions resourceVersions, MeterRegistry meterRegistry,
+                                @Value("${team-stats.write-behind.enabled:false}") boolean enabled,
+                                @Value("${team-stats.write-behind.flush-interval-ms:1000}") long flushIntervalMs) {
+        this.teamRepository = teamRepository;
+        this.resourceVersions = resourceVersions;
+        this.enabled = enabled;
+        if (!enabled) {
+            this.scheduler = null;
+            return;
+        }
+
+        // Whatever an earlier run recorded but did not apply is visible and flushed first
+        Map<Long, TeamStatsDelta> recovered = ReadRouting.onPrimary(teamRepository::findPendingStats);
+        if (!recovered.isEmpty()) {
+            sealed.add(new Batch(new ArrayList<>(recovered.keySet()),
+                    coalesce(new HashMap<>(), new ArrayList<>(recovered.values()))));
+        }
+        Gauge.builder("team.stats.pending", this, TeamStatsWriteBehind::pendingTeams).register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.scheduleWithFixedDelay(this::scheduledFlush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // Still in the pending table; applied on the next start
+            log.error("Final team stats flush failed", e);
+        }
+    }
+
+    public void submit(List<TeamStatsDelta> deltas) {
+        if (!enabled) {
+            teamRepository.applyStatsDeltas(deltas);
+            return;
+        }
+        List<Long> ids = teamRepository.savePendingStats(deltas);
+        // Reads only merge deltas that committed
+        afterCommit(() -> {
+            synchronized (this) {
+                pendingIds.addAll(ids);
+                coalesce(pending, deltas);
+            }
+            resourceVersions.bump(ResourceVersions.Resource.TEAMS);
+        });
+    }
+
+    public Optional<Team> readTeam(Supplier<Optional<Team>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        flushLock.readLock().lock();
+        try {
+            Optional<Team> team = query.get();
+            team.ifPresent(this::mergePending);
+            return team;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    public List<Team> readTeams(Supplier<List<Team>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+        flushLock.readLock().lock();
+        try {
+            List<Team> teams = query.get();
+            teams.forEach(this::mergePending);
+            return teams;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    // For streamed reads, which run too long to hold off a flush: a flush committing mid-stream can
+    // briefly show its deltas twice for rows read after the commit
+    public Team mergePending(Team team) {
+        if (!enabled) {
+            return team;
+        }
+        synchronized (this) {
+            for (Batch batch : sealed) {
+                apply(batch.deltas, team);
+            }
+            apply(pending, team);
+        }
+        return team;
+    }
+
+    // Applies everything committed so far; also used before stats are overwritten by hand
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (flushMonitor) {
+            synchronized (this) {
+                if (!pendingIds.isEmpty()) {
+                    sealed.addLast(new Batch(pendingIds, pending));
+                    pendingIds = new ArrayList<>();
+                    pending = new HashMap<>();
+                }
+            }
+
+            while (true) {
+                Batch batch;
+                synchronized (this) {
+                    batch = sealed.peekFirst();
+                    if (batch == null) {
+                        return;
+                    }
+                }
+
+                flushLock.writeLock().lock();
+                try {
+                    teamRepository.applyPendingStats(batch.ids);
+                    synchronized (this) {
+                        sealed.removeFirst();
+                    }
+                } finally {
+                    flushLock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Batches stay pending and visible to reads; the next run retries them in order
+            log.error("Team stats flush failed", e);
+        }
+    }
+
+    private synchronized int pendingTeams() {
+        int teams = pending.size();
+        for (Batch batch : sealed) {
+            teams += batch.deltas.size();
+        }
+        return teams;
+    }
+
+    private static Map<Integer, TeamStatsDelta> coalesce(Map<Integer, TeamStatsDelta> into, List<TeamStatsDelta> deltas) {
+        for (TeamStatsDelta delta : deltas) {
+            into.merge(delta.getTeamId(), delta, TeamStatsDelta::merge);
+        }
+        return into;
+    }
+
+    private static void apply(Map<Integer, TeamStatsDelta> deltas, Team team) {
+        TeamStatsDelta delta = deltas.get(team.getId());
+        if (delta != null) {
+            delta.applyTo(team);
+        }
+    }
+
+    private static final class Batch {
+        private final List<Long> ids;
+        private final Map<Integer, TeamStatsDelta> deltas;
+
+        private Batch(List<Long> ids, Map<Integer, TeamStatsDelta> deltas) {
+            this.ids = ids;
+            this.deltas = deltas;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
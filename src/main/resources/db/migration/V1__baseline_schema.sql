@@ -0,0 +1,48 @@
+-- Tables as they existed before migrations were shipped with the app. Everything is IF NOT EXISTS
+-- so an existing database is baselined without changes.
+
+CREATE TABLE IF NOT EXISTS tournaments (
+    id          BIGSERIAL PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    start_date  DATE         NOT NULL,
+    end_date    DATE,
+    type        VARCHAR(50),
+    status      VARCHAR(20)  NOT NULL DEFAULT 'upcoming',
+    created_at  TIMESTAMP    NOT NULL DEFAULT now(),
+    updated_at  TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS teams (
+    id               SERIAL PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    played           INT          NOT NULL DEFAULT 0,
+    wins             INT          NOT NULL DEFAULT 0,
+    draws            INT          NOT NULL DEFAULT 0,
+    losses           INT          NOT NULL DEFAULT 0,
+    goal_difference  INT          NOT NULL DEFAULT 0,
+    goals_scored     INT          NOT NULL DEFAULT 0,
+    goals_conceded   INT          NOT NULL DEFAULT 0,
+    last_5_games     VARCHAR(5)            DEFAULT '',
+    points           INT          NOT NULL DEFAULT 0,
+    logo_path        VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS tournament_teams (
+    tournament_id  BIGINT NOT NULL,
+    team_id        INT    NOT NULL,
+    PRIMARY KEY (tournament_id, team_id)
+);
+
+CREATE TABLE IF NOT EXISTS matches (
+    id               BIGSERIAL PRIMARY KEY,
+    tournament_id    BIGINT      NOT NULL,
+    home_team_id     INT         NOT NULL,
+    away_team_id     INT         NOT NULL,
+    home_team_score  INT,
+    away_team_score  INT,
+    match_date       TIMESTAMP,
+    status           VARCHAR(20) NOT NULL DEFAULT 'scheduled',
+    round            VARCHAR(100),
+    created_at       TIMESTAMP   NOT NULL DEFAULT now(),
+    updated_at       TIMESTAMP
+);
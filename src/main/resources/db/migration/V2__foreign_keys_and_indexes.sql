@@ -0,0 +1,42 @@
+-- Deleting a team or tournament takes its matches and memberships with it; the DAOs rely on this
+-- and MatchDaoImpl turns violations on insert into a 404. Constraints are only added when missing
+-- (per table, so a second schema in the same database gets its own) so hand-made databases that
+-- already have them migrate cleanly.
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_matches_tournament' AND conrelid = 'matches'::regclass) THEN
+        ALTER TABLE matches ADD CONSTRAINT fk_matches_tournament
+            FOREIGN KEY (tournament_id) REFERENCES tournaments (id) ON DELETE CASCADE;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_matches_home_team' AND conrelid = 'matches'::regclass) THEN
+        ALTER TABLE matches ADD CONSTRAINT fk_matches_home_team
+            FOREIGN KEY (home_team_id) REFERENCES teams (id) ON DELETE CASCADE;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_matches_away_team' AND conrelid = 'matches'::regclass) THEN
+        ALTER TABLE matches ADD CONSTRAINT fk_matches_away_team
+            FOREIGN KEY (away_team_id) REFERENCES teams (id) ON DELETE CASCADE;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_tournament_teams_tournament' AND conrelid = 'tournament_teams'::regclass) THEN
+        ALTER TABLE tournament_teams ADD CONSTRAINT fk_tournament_teams_tournament
+            FOREIGN KEY (tournament_id) REFERENCES tournaments (id) ON DELETE CASCADE;
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_tournament_teams_team' AND conrelid = 'tournament_teams'::regclass) THEN
+        ALTER TABLE tournament_teams ADD CONSTRAINT fk_tournament_teams_team
+            FOREIGN KEY (team_id) REFERENCES teams (id) ON DELETE CASCADE;
+    END IF;
+END $$;
+
+-- Tournament fixtures and counts, ordered by kick-off
+CREATE INDEX IF NOT EXISTS idx_matches_tournament_date ON matches (tournament_id, match_date);
+
+-- A team's matches: the OR in findByTeamId becomes a bitmap OR of these two. They also serve the
+-- cascades when a team is deleted.
+CREATE INDEX IF NOT EXISTS idx_matches_home_team_date ON matches (home_team_id, match_date);
+CREATE INDEX IF NOT EXISTS idx_matches_away_team_date ON matches (away_team_id, match_date);
+
+-- Upcoming fixtures are a small slice of a tournament once it is under way
+CREATE INDEX IF NOT EXISTS idx_matches_scheduled ON matches (tournament_id, match_date)
+    WHERE status = 'scheduled';
+
+-- The primary key covers lookups by tournament; this covers the cascade when a team is deleted
+CREATE INDEX IF NOT EXISTS idx_tournament_teams_team ON tournament_teams (team_id);
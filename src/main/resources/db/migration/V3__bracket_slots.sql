@@ -0,0 +1,6 @@
+-- Knockout matches keep their position in the bracket heap (1 is the final)
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS bracket_slot INT;
+
+-- One match per slot; the bracket service relies on this when it creates the next round
+CREATE UNIQUE INDEX IF NOT EXISTS uq_matches_bracket_slot ON matches (tournament_id, bracket_slot)
+    WHERE bracket_slot IS NOT NULL;
@@ -0,0 +1,17 @@
+-- Team stat deltas recorded by results but not yet added to the teams table by the write-behind.
+-- A result inserts its rows in its own transaction and the flush deletes them in the transaction
+-- that applies them, so every committed delta is applied exactly once however the process stops.
+CREATE TABLE IF NOT EXISTS team_stats_pending (
+    id              BIGSERIAL   PRIMARY KEY,
+    team_id         INTEGER     NOT NULL REFERENCES teams (id) ON DELETE CASCADE,
+    played          INTEGER     NOT NULL,
+    wins            INTEGER     NOT NULL,
+    draws           INTEGER     NOT NULL,
+    losses          INTEGER     NOT NULL,
+    goals_scored    INTEGER     NOT NULL,
+    goals_conceded  INTEGER     NOT NULL,
+    points          INTEGER     NOT NULL,
+    result          VARCHAR(5)  NOT NULL DEFAULT ''
+);
+
+CREATE INDEX IF NOT EXISTS idx_team_stats_pending_team ON team_stats_pending (team_id);
@@ -0,0 +1,23 @@
+-- Append-only log of result changes. There is no foreign key to matches: a deleted match keeps
+-- its void event so standings can be replayed.
+CREATE TABLE IF NOT EXISTS match_events (
+    id               BIGSERIAL PRIMARY KEY,
+    match_id         BIGINT      NOT NULL,
+    tournament_id    BIGINT      NOT NULL REFERENCES tournaments (id) ON DELETE CASCADE,
+    type             VARCHAR(16) NOT NULL CHECK (type IN ('recorded', 'corrected', 'voided')),
+    home_team_id     INT         NOT NULL,
+    away_team_id     INT         NOT NULL,
+    home_team_score  INT,
+    away_team_score  INT,
+    created_at       TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+-- Replay after a snapshot and the latest event id, both per tournament
+CREATE INDEX IF NOT EXISTS idx_match_events_tournament_id ON match_events (tournament_id, id);
+
+CREATE TABLE IF NOT EXISTS standings_snapshots (
+    tournament_id  BIGINT    PRIMARY KEY REFERENCES tournaments (id) ON DELETE CASCADE,
+    last_event_id  BIGINT    NOT NULL,
+    state          TEXT      NOT NULL,
+    created_at     TIMESTAMP NOT NULL DEFAULT now()
+);
@@ -0,0 +1,5 @@
+-- Optimistic locking: every write bumps the row's version and updates only succeed against the
+-- version they read
+ALTER TABLE teams ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE matches ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tournaments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -3,7 +3,8 @@ package com.example.tournamentbackend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// No database here; migrations are covered by QueryPlanTest when one is configured
+@SpringBootTest(properties = "spring.flyway.enabled=false")
 class TournamentBackendApplicationTests {
 
     @Test
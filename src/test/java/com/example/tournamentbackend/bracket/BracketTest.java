@@ -0,0 +1,70 @@
+package com.example.tournamentbackend.bracket;
+
+import com.example.tournamentbackend.dto.BracketDTO;
+import com.example.tournamentbackend.dto.BracketNodeDTO;
+import com.example.tournamentbackend.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BracketTest {
+
+    @Test
+    void showsByesAndPendingSlotsFromTheFirstRound() {
+        Bracket bracket = new Bracket(1L, List.of(
+                match(10L, 2, 1, 1, "bye", null, null),
+                match(11L, 3, 4, 5, "scheduled", null, null)));
+
+        BracketDTO dto = bracket.getBracket();
+        assertEquals(2, dto.getRounds());
+        BracketNodeDTO finalMatch = dto.getFinalMatch();
+        assertEquals("Final", finalMatch.getRound());
+        assertNull(finalMatch.getMatchId());
+        assertEquals(1, finalMatch.getHomeTeamId());
+        assertNull(finalMatch.getAwayTeamId());
+        assertEquals("Semi-final", finalMatch.getChildren().get(0).getRound());
+        assertNull(finalMatch.getChildren().get(0).getAwayTeamId());
+    }
+
+    @Test
+    void applyRebuildsOnlyThePathToTheFinal() {
+        Bracket bracket = new Bracket(1L, List.of(
+                match(10L, 4, 1, 8, "scheduled", null, null),
+                match(11L, 5, 4, 5, "scheduled", null, null),
+                match(12L, 6, 2, 7, "scheduled", null, null),
+                match(13L, 7, 3, 6, "scheduled", null, null)));
+        BracketNodeDTO before = bracket.getBracket().getFinalMatch();
+
+        bracket.apply(match(11L, 5, 4, 5, "completed", 1, 2));
+
+        BracketNodeDTO after = bracket.getBracket().getFinalMatch();
+        assertSame(before.getChildren().get(1), after.getChildren().get(1));
+        BracketNodeDTO semiFinal = after.getChildren().get(0);
+        assertSame(before.getChildren().get(0).getChildren().get(0), semiFinal.getChildren().get(0));
+        assertEquals(5, semiFinal.getChildren().get(1).getWinnerTeamId());
+        assertEquals(5, semiFinal.getAwayTeamId());
+    }
+
+    @Test
+    void drawsHaveNoWinner() {
+        assertNull(Bracket.winnerOf(match(1L, 2, 1, 2, "completed", 1, 1)));
+        assertEquals(2, Bracket.winnerOf(match(1L, 2, 1, 2, "completed", 0, 3)));
+    }
+
+    private static Match match(Long id, int slot, int home, int away, String status, Integer homeScore, Integer awayScore) {
+        Match match = new Match();
+        match.setId(id);
+        match.setTournamentId(1L);
+        match.setBracketSlot(slot);
+        match.setHomeTeamId(home);
+        match.setAwayTeamId(away);
+        match.setStatus(status);
+        match.setHomeTeamScore(homeScore);
+        match.setAwayTeamScore(awayScore);
+        return match;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.tournamentbackend.cache;
+
+import com.example.tournamentbackend.model.Team;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamCacheTest {
+
+    @Test
+    void returnsCopiesAndInvalidates() {
+        TeamCache cache = new TeamCache(64, 60, new SimpleMeterRegistry());
+        Team team = team(7);
+        cache.put(team);
+
+        Team cached = cache.get(7);
+        assertNotNull(cached);
+        assertNotSame(team, cached);
+        cached.setName("changed");
+        assertEquals("Team 7", cache.get(7).getName());
+
+        cache.invalidate(7);
+        assertNull(cache.get(7));
+    }
+
+    @Test
+    void staysWithinMaxSizeAndKeepsRecentEntries() {
+        TeamCache cache = new TeamCache(16, 60, new SimpleMeterRegistry());
+        for (int id = 0; id < 10_000; id++) {
+            cache.put(team(id));
+            assertNotNull(cache.get(id));
+        }
+
+        assertTrue(cache.size() <= 16);
+        assertNotNull(cache.get(9_999));
+        assertNull(cache.get(0));
+
+        for (int id = 0; id < 10_000; id++) {
+            cache.invalidate(id);
+        }
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() {
+        TeamCache cache = new TeamCache(16, 0, new SimpleMeterRegistry());
+        cache.put(team(1));
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    private Team team(int id) {
+        return new Team(id, "Team " + id, 0, 0, 0, 0, 0, 0, 0, "", 0, null, 0);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.tournamentbackend.config;
+
+import com.example.tournamentbackend.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    void rejectsBeyondLimitAndReleasesOnClose() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(stubDataSource(), 1, 0, 10, registry);
+
+        Connection first = dataSource.getConnection();
+        assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+        assertNotNull(second);
+        assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+    }
+
+    private static DataSource stubDataSource() {
+        Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> null);
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> connection);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.tournamentbackend.config;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.cache.ResourceVersions.Resource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalGetInterceptorTest {
+
+    @Test
+    void answersNotModifiedUntilARelevantResourceChanges() {
+        ResourceVersions versions = new ResourceVersions();
+        ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(versions);
+
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/matches/tournament/1", null), first, null));
+        String etag = first.getHeader("ETag");
+
+        MockHttpServletResponse revalidated = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(get("/api/matches/tournament/1", etag), revalidated, null));
+        assertEquals(304, revalidated.getStatus());
+
+        versions.bump(Resource.TOURNAMENTS);
+        assertFalse(interceptor.preHandle(get("/api/matches/tournament/1", etag), new MockHttpServletResponse(), null));
+
+        versions.bump(Resource.TEAMS);
+        assertTrue(interceptor.preHandle(get("/api/matches/tournament/1", etag), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void withholdsTheTagWhileAReplicaMayNotHaveSeenAWrite() {
+        ResourceVersions versions = new ResourceVersions("jdbc:postgresql://replica/tournament", 60_000, 1_000);
+        ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(versions);
+
+        MockHttpServletResponse settled = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/teams/1", null), settled, null));
+        String etag = settled.getHeader("ETag");
+        assertNotNull(etag);
+
+        // The old tag must not be confirmed either: the replica may still serve the old body
+        versions.bump(Resource.TEAMS);
+        MockHttpServletResponse unsettled = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/teams/1", etag), unsettled, null));
+        assertNull(unsettled.getHeader("ETag"));
+
+        // Resources nobody wrote to are still tagged
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        assertTrue(interceptor.preHandle(get("/api/tournaments/1", null), other, null));
+        assertNotNull(other.getHeader("ETag"));
+    }
+
+    private static MockHttpServletRequest get(String uri, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.tournamentbackend.dao;
+
+import com.example.tournamentbackend.cache.TeamCache;
+import com.example.tournamentbackend.dao.impl.MatchDaoImpl;
+import com.example.tournamentbackend.dao.impl.MatchEventDaoImpl;
+import com.example.tournamentbackend.dao.impl.StandingsSnapshotDaoImpl;
+import com.example.tournamentbackend.dao.impl.TeamDaoImpl;
+import com.example.tournamentbackend.dao.impl.TournamentDaoImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Migrates a scratch schema, seeds it with a few hundred thousand matches and checks that every
+// read the DAOs issue is answered from an index. Needs a PostgreSQL database to run against:
+//   PLAN_TEST_DB_URL=jdbc:postgresql://localhost:5432/tournament_dtb mvn test -Dtest=QueryPlanTest
+// (PLAN_TEST_DB_USER / PLAN_TEST_DB_PASSWORD default to postgres / empty)
+@EnabledIfEnvironmentVariable(named = "PLAN_TEST_DB_URL", matches = ".+")
+class QueryPlanTest {
+
+    private static final String SCHEMA = "query_plan_test";
+    private static final Set<String> SEEDED_TABLES = Set.of("matches", "teams", "tournaments", "tournament_teams",
+            "match_events", "standings_snapshots");
+
+    private static final String[] SEED = {
+            "INSERT INTO teams (name, points, goal_difference) " +
+                    "SELECT 'Team ' || g, g % 90, g % 41 - 20 FROM generate_series(1, 20000) g",
+            "INSERT INTO tournaments (name, start_date, type, status) " +
+                    "SELECT 'Tournament ' || g, DATE '2024-01-01' + g % 365, 'league', 'ongoing' " +
+                    "FROM generate_series(1, 2000) g",
+            // 20 teams per tournament, every team in two tournaments
+            "INSERT INTO tournament_teams (tournament_id, team_id) " +
+                    "SELECT t, ((t - 1) * 10 + s - 1) % 20000 + 1 " +
+                    "FROM generate_series(1, 2000) t, generate_series(1, 20) s",
+            // A full round robin per tournament, a tenth of it still to be played
+            "INSERT INTO matches (tournament_id, home_team_id, away_team_id, home_team_score, away_team_score, " +
+                    "match_date, status, round, bracket_slot) " +
+                    "SELECT t, ((t - 1) * 10 + a - 1) % 20000 + 1, ((t - 1) * 10 + b - 1) % 20000 + 1, " +
+                    "CASE WHEN (a + b) % 10 = 0 THEN NULL ELSE a % 4 END, " +
+                    "CASE WHEN (a + b) % 10 = 0 THEN NULL ELSE b % 3 END, " +
+                    "TIMESTAMP '2024-01-01 18:00' + (t % 365 + a * 7) * INTERVAL '1 day', " +
+                    "CASE WHEN (a + b) % 10 = 0 THEN 'scheduled' ELSE 'completed' END, " +
+                    "'Matchday ' || a, CASE WHEN a = 1 THEN b END " +
+                    "FROM generate_series(1, 2000) t, generate_series(1, 20) a, generate_series(1, 20) b WHERE a < b",
+            "INSERT INTO match_events (match_id, tournament_id, type, home_team_id, away_team_id, " +
+                    "home_team_score, away_team_score) " +
+                    "SELECT id, tournament_id, 'recorded', home_team_id, away_team_id, home_team_score, away_team_score " +
+                    "FROM matches WHERE status = 'completed' ORDER BY id",
+            "INSERT INTO standings_snapshots (tournament_id, last_event_id, state) " +
+                    "SELECT tournament_id, MAX(id), '[]' FROM match_events GROUP BY tournament_id",
+            "ANALYZE"
+    };
+
+    private static DriverManagerDataSource database;
+    private static MatchDao matchRepository;
+    private static TeamDao teamRepository;
+    private static TournamentDao tournamentRepository;
+    private static MatchEventDao matchEventRepository;
+    private static StandingsSnapshotDao snapshotRepository;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        database = new DriverManagerDataSource(System.getenv("PLAN_TEST_DB_URL"),
+                envOrDefault("PLAN_TEST_DB_USER", "postgres"), envOrDefault("PLAN_TEST_DB_PASSWORD", ""));
+        dropSchema();
+
+        Properties properties = new Properties();
+        properties.setProperty("currentSchema", SCHEMA);
+        database.setConnectionProperties(properties);
+        Flyway.configure().dataSource(database).schemas(SCHEMA).load().migrate();
+
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : SEED) {
+                statement.execute(sql);
+            }
+        }
+
+        DataSource capturing = capturingDataSource();
+        matchRepository = new MatchDaoImpl(capturing);
+        teamRepository = new TeamDaoImpl(capturing, new TeamCache(16, 60, new SimpleMeterRegistry()));
+        tournamentRepository = new TournamentDaoImpl(capturing);
+        matchEventRepository = new MatchEventDaoImpl(capturing);
+        snapshotRepository = new StandingsSnapshotDaoImpl(capturing);
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (database != null) {
+            dropSchema();
+        }
+    }
+
+    @Test
+    void everyDaoReadUsesAnIndex() throws Exception {
+        Map<String, Runnable> reads = new LinkedHashMap<>();
+        reads.put("MatchDao.findById", () -> matchRepository.findById(123_456L));
+        reads.put("MatchDao.findByIds", () -> matchRepository.findByIds(List.of(17L, 90_000L, 300_001L)));
+        reads.put("MatchDao.findPage", () -> matchRepository.findPage(200_000L, 50));
+        reads.put("MatchDao.findByTournamentId", () -> matchRepository.findByTournamentId(42L));
+        reads.put("MatchDao.countByTournamentId", () -> matchRepository.countByTournamentId(42L));
+        reads.put("MatchDao.findByTeamId", () -> matchRepository.findByTeamId(777));
+        reads.put("MatchDao.findByTournamentIdAndTeams", () -> matchRepository.findByTournamentIdAndTeams(42L,
+                List.of(777, 778), LocalDateTime.of(2025, 3, 1, 13, 0), LocalDateTime.of(2025, 3, 1, 17, 0)));
+        reads.put("MatchDao.findByBracketSlot", () -> matchRepository.findByBracketSlot(42L, 5));
+        reads.put("TeamDao.findById", () -> teamRepository.findById(777));
+        reads.put("TeamDao.findPage", () -> teamRepository.findPage(10_000, 50));
+        reads.put("TeamDao.findByTournamentId", () -> teamRepository.findByTournamentId(42L));
+        reads.put("TournamentDao.findById", () -> tournamentRepository.findById(42L));
+        reads.put("TournamentDao.lockById", () -> tournamentRepository.lockById(42L));
+        reads.put("TournamentDao.lockAllByTeamId", () -> tournamentRepository.lockAllByTeamId(777));
+        reads.put("TournamentDao.findPage", () -> tournamentRepository.findPage(1_000L, 50));
+        reads.put("MatchEventDao.findByTournamentIdAfter", () -> matchEventRepository.findByTournamentIdAfter(42L, 0L));
+        reads.put("MatchEventDao.findLastIdByTournamentId", () -> matchEventRepository.findLastIdByTournamentId(42L));
+        reads.put("StandingsSnapshotDao.findByTournamentId", () -> snapshotRepository.findByTournamentId(42L));
+
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Runnable> read : reads.entrySet()) {
+            CapturedQuery query = capture(read.getValue());
+            assertNotNull(query, read.getKey() + " issued no query");
+
+            JsonNode plan = explain(query);
+            List<String> scans = new ArrayList<>();
+            collectFilteredSeqScans(plan, scans);
+            if (!scans.isEmpty()) {
+                failures.add(read.getKey() + " scans " + scans + ":\n" + plan.toPrettyString());
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    @Test
+    void migrationsAreRepeatable() {
+        // A second run against a migrated schema has nothing to apply
+        assertEquals(0, Flyway.configure().dataSource(database).schemas(SCHEMA).load().migrate().migrationsExecuted);
+    }
+
+    // A sequential scan with a filter on a seeded table is a missing index. Unfiltered scans (the
+    // build side of a hash join, say) read every row on purpose and are left to the planner.
+    private static void collectFilteredSeqScans(JsonNode node, List<String> scans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && SEEDED_TABLES.contains(node.path("Relation Name").asText())
+                && node.has("Filter")) {
+            scans.add(node.path("Relation Name").asText() + " (" + node.path("Filter").asText() + ")");
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFilteredSeqScans(child, scans);
+        }
+    }
+
+    private static JsonNode explain(CapturedQuery query) throws Exception {
+        try (Connection connection = database.getConnection();
+             PreparedStatement ps = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + query.sql)) {
+            for (Map.Entry<Integer, Object> parameter : query.parameters.entrySet()) {
+                Object value = parameter.getValue();
+                if (value instanceof Array array) {
+                    value = connection.createArrayOf(array.getBaseTypeName(), (Object[]) array.getArray());
+                }
+                ps.setObject(parameter.getKey(), value);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return new ObjectMapper().readTree(rs.getString(1)).get(0).get("Plan");
+            }
+        }
+    }
+
+    private static final ThreadLocal<CapturedQuery> CAPTURED = new ThreadLocal<>();
+
+    private static CapturedQuery capture(Runnable read) {
+        CAPTURED.remove();
+        try {
+            read.run();
+        } catch (RuntimeException e) {
+            // Expected: the capturing statement refuses to execute
+        }
+        return CAPTURED.get();
+    }
+
+    // Hands the DAOs statements that record their SQL and parameters instead of running them, so the
+    // plan is taken for exactly what the DAO would send
+    private static DataSource capturingDataSource() {
+        Connection connection = proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return capturingStatement((String) args[0]);
+                case "createArrayOf":
+                    // Recreated on the real connection when the plan is taken
+                    return proxy(Array.class, (array, arrayMethod, arrayArgs) -> switch (arrayMethod.getName()) {
+                        case "getBaseTypeName" -> args[0];
+                        case "getArray" -> args[1];
+                        default -> null;
+                    });
+                case "getAutoCommit":
+                case "isValid":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+        return proxy(DataSource.class, (proxy, method, args) -> connection);
+    }
+
+    private static PreparedStatement capturingStatement(String sql) {
+        CapturedQuery query = new CapturedQuery(sql);
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                query.parameters.put(index, args[1]);
+                return null;
+            }
+            if (name.startsWith("execute")) {
+                CAPTURED.set(query);
+                throw new SQLException("Captured for EXPLAIN: " + sql);
+            }
+            return method.getReturnType() == boolean.class ? false : method.getReturnType() == int.class ? 0 : null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(QueryPlanTest.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static void dropSchema() throws SQLException {
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    private static String envOrDefault(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? fallback : value;
+    }
+
+    private static final class CapturedQuery {
+        private final String sql;
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        private CapturedQuery(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.tournamentbackend.dao.impl;
+
+import com.example.tournamentbackend.cache.TeamCache;
+import com.example.tournamentbackend.model.Team;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TeamDaoImplCacheTest {
+
+    private static final List<String> COLUMNS = List.of("id", "name", "played", "wins", "draws", "losses",
+            "goal_difference", "goals_scored", "goals_conceded", "last_5_games", "points", "logo_path", "version");
+
+    // The row other connections see; a write only replaces it when the test commits
+    private final AtomicReference<Object[]> committed = new AtomicReference<>(row("Old name", 0L));
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void readerBetweenWriteAndCommitDoesNotLeaveTheOldRowCached() throws Exception {
+        TeamDaoImpl teamDao = new TeamDaoImpl(stubDataSource(), new TeamCache(64, 60, new SimpleMeterRegistry()));
+        Team team = teamDao.findById(1).orElseThrow();
+
+        beginTransaction();
+        team.setName("New name");
+        teamDao.update(team);
+
+        // Another request reads the last committed row before the writer commits
+        Team concurrent = CompletableFuture.supplyAsync(() -> teamDao.findById(1).orElseThrow()).get();
+        assertEquals("Old name", concurrent.getName());
+
+        committed.set(row("New name", 1L));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        Team afterCommit = teamDao.findById(1).orElseThrow();
+        assertEquals("New name", afterCommit.getName());
+        assertEquals(1L, afterCommit.getVersion());
+    }
+
+    @Test
+    void readsInsideATransactionAreNotCachedAndRollbackDropsTheEntry() throws Exception {
+        TeamDaoImpl teamDao = new TeamDaoImpl(stubDataSource(), new TeamCache(64, 60, new SimpleMeterRegistry()));
+        teamDao.findById(1).orElseThrow();
+
+        beginTransaction();
+        Team team = teamDao.findById(1).orElseThrow();
+        team.setName("Never committed");
+        teamDao.update(team);
+        CompletableFuture.runAsync(() -> teamDao.findById(1)).get();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals("Old name", teamDao.findById(1).orElseThrow().getName());
+        assertEquals(0L, teamDao.findById(1).orElseThrow().getVersion());
+    }
+
+    private static void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static Object[] row(String name, long version) {
+        return new Object[]{1, name, 0, 0, 0, 0, 0, 0, 0, "", 0, null, version};
+    }
+
+    // Selects return the committed row, updates report one row changed
+    private DataSource stubDataSource() {
+        Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            return statement();
+                        case "getAutoCommit":
+                        case "isClosed":
+                            return false;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getConnection":
+                            return connection;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private PreparedStatement statement() {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeQuery":
+                            return resultSet(committed.get());
+                        case "executeUpdate":
+                            return 1;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static ResultSet resultSet(Object[] row) {
+        boolean[] read = {false};
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            boolean hasRow = !read[0];
+                            read[0] = true;
+                            return hasRow;
+                        case "findColumn":
+                            return COLUMNS.indexOf((String) args[0]) + 1;
+                        case "getInt":
+                            return (Integer) row[(int) args[0] - 1];
+                        case "getLong":
+                            return (Long) row[(int) args[0] - 1];
+                        case "getString":
+                            return (String) row[(int) args[0] - 1];
+                        case "wasNull":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.tournamentbackend.dao.impl;
+
+import com.example.tournamentbackend.model.Team;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UpdateStatementsTest {
+
+    @Test
+    void writesOnlyChangedColumnsUnderTheVersionCheck() {
+        Team team = new Team(7, "Team 7", 4, 2, 1, 1, 2, 6, 4, "WWDLL", 7, null, 3);
+        assertTrue(team.changedFields().isEmpty());
+
+        team.setName("Team 7");
+        team.setLogoPath("logo.png");
+        team.setPoints(10);
+        assertEquals(EnumSet.of(Team.Field.POINTS, Team.Field.LOGO_PATH), team.changedFields());
+
+        UpdateStatements<Team.Field> statements = new UpdateStatements<>("teams",
+                field -> field.name().toLowerCase(), "updated_at = ?");
+        String sql = statements.sqlFor(team.changedFields());
+        assertEquals("UPDATE teams SET points = ?, logo_path = ?, updated_at = ?, version = version + 1 " +
+                "WHERE id = ? AND version = ?", sql);
+        assertSame(sql, statements.sqlFor(EnumSet.of(Team.Field.LOGO_PATH, Team.Field.POINTS)));
+
+        team.markClean();
+        assertTrue(team.changedFields().isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.tournamentbackend.fixtures;
+
+import com.example.tournamentbackend.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixtureGeneratorTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void roundRobinPairsEveryTeamOnceAndOncePerRound() {
+        List<Integer> teams = teams(7);
+        List<Match> matches = new ArrayList<>();
+
+        int rounds = FixtureGenerator.generate(1L, teams, FixtureFormat.ROUND_ROBIN, START, 7, matches::add);
+
+        assertEquals(7, rounds);
+        assertEquals(21, matches.size());
+        Set<String> pairs = new HashSet<>();
+        for (Match match : matches) {
+            int low = Math.min(match.getHomeTeamId(), match.getAwayTeamId());
+            int high = Math.max(match.getHomeTeamId(), match.getAwayTeamId());
+            assertTrue(pairs.add(low + "-" + high));
+        }
+
+        Map<String, List<Match>> byRound = matches.stream().collect(Collectors.groupingBy(Match::getRound));
+        for (List<Match> round : byRound.values()) {
+            Set<Integer> playing = new HashSet<>();
+            for (Match match : round) {
+                assertTrue(playing.add(match.getHomeTeamId()));
+                assertTrue(playing.add(match.getAwayTeamId()));
+            }
+        }
+    }
+
+    @Test
+    void doubleRoundRobinReversesVenues() {
+        List<Match> matches = new ArrayList<>();
+
+        int rounds = FixtureGenerator.generate(1L, teams(6), FixtureFormat.DOUBLE_ROUND_ROBIN, START, 7, matches::add);
+
+        assertEquals(10, rounds);
+        assertEquals(30, matches.size());
+        Set<String> fixtures = new HashSet<>();
+        Map<Integer, Integer> homeGames = new HashMap<>();
+        for (Match match : matches) {
+            assertTrue(fixtures.add(match.getHomeTeamId() + "-" + match.getAwayTeamId()));
+            homeGames.merge(match.getHomeTeamId(), 1, Integer::sum);
+        }
+        homeGames.values().forEach(count -> assertEquals(5, count));
+        assertEquals(START.plusDays(63), matches.stream().map(Match::getMatchDate).max(LocalDateTime::compareTo).get());
+    }
+
+    @Test
+    void singleEliminationGivesByesToTopSeeds() {
+        List<Match> matches = new ArrayList<>();
+
+        int rounds = FixtureGenerator.generate(1L, teams(6), FixtureFormat.SINGLE_ELIMINATION, START, 7, matches::add);
+
+        assertEquals(3, rounds);
+        assertEquals(4, matches.size());
+        assertEquals("Quarter-final", matches.get(1).getRound());
+
+        // Seeds 1 and 2 sit out the first round
+        assertEquals(FixtureGenerator.BYE_STATUS, matches.get(0).getStatus());
+        assertEquals(1, matches.get(0).getHomeTeamId());
+        assertEquals(4, matches.get(0).getBracketSlot());
+        assertEquals(FixtureGenerator.BYE_STATUS, matches.get(2).getStatus());
+        assertEquals(2, matches.get(2).getHomeTeamId());
+        assertEquals(6, matches.get(2).getBracketSlot());
+
+        assertEquals(4, matches.get(1).getHomeTeamId());
+        assertEquals(5, matches.get(1).getAwayTeamId());
+        assertEquals(5, matches.get(1).getBracketSlot());
+        assertEquals(3, matches.get(3).getHomeTeamId());
+        assertEquals(6, matches.get(3).getAwayTeamId());
+        assertEquals(7, matches.get(3).getBracketSlot());
+    }
+
+    @Test
+    void bracketOrderKeepsTopSeedsApart() {
+        assertArrayEquals(new int[]{1, 8, 4, 5, 2, 7, 3, 6}, FixtureGenerator.bracketOrder(8));
+    }
+
+    private List<Integer> teams(int count) {
+        return IntStream.rangeClosed(1, count).boxed().collect(Collectors.toList());
+    }
+}
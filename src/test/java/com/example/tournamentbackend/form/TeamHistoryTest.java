@@ -0,0 +1,85 @@
+package com.example.tournamentbackend.form;
+
+import com.example.tournamentbackend.dto.FormDTO;
+import com.example.tournamentbackend.dto.HeadToHeadDTO;
+import com.example.tournamentbackend.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamHistoryTest {
+
+    @Test
+    void formTakesTheLatestCountedResultsInKickOffOrder() {
+        TeamHistory history = TeamHistory.of(1, List.of(
+                match(3L, 1, 2, 0, 1, "completed", 3),
+                match(1L, 1, 3, 2, 0, "completed", 1),
+                match(2L, 4, 1, 1, 1, "completed", 2),
+                match(4L, 1, 5, null, null, "scheduled", 4),
+                match(5L, 1, 1, null, null, "bye", 1)));
+
+        assertEquals(3, history.size());
+        FormDTO form = history.form(2);
+        assertEquals("DL", form.getForm());
+        assertEquals(2, form.getPlayed());
+        assertEquals(1, form.getPoints());
+        assertEquals(1, form.getGoalsScored());
+        assertEquals(2, form.getGoalsConceded());
+        assertEquals(4, form.getMatches().get(0).getOpponentId());
+        assertFalse(form.getMatches().get(0).isHome());
+        assertEquals("WDL", history.form(10).getForm());
+    }
+
+    @Test
+    void withReplacesAndReordersAMatchAndDropsItOnceItStopsCounting() {
+        TeamHistory history = TeamHistory.of(1, List.of(
+                match(1L, 1, 2, 1, 0, "completed", 1),
+                match(2L, 3, 1, 0, 0, "completed", 2)));
+
+        TeamHistory corrected = history.with(match(1L, 1, 2, 0, 3, "completed", 5));
+        assertEquals("DL", corrected.form(5).getForm());
+        assertEquals("WD", history.form(5).getForm());
+
+        TeamHistory voided = corrected.with(match(2L, 3, 1, null, null, "scheduled", 2));
+        assertEquals("L", voided.form(5).getForm());
+        assertEquals(0, voided.without(1L).size());
+    }
+
+    @Test
+    void headToHeadCountsOnlyMeetingsWithThatOpponent() {
+        TeamHistory history = TeamHistory.of(1, List.of(
+                match(1L, 1, 2, 3, 1, "completed", 1),
+                match(2L, 1, 3, 0, 2, "completed", 2),
+                match(3L, 2, 1, 2, 2, "completed", 3),
+                match(4L, 1, 20, 1, 0, "completed", 4)));
+
+        HeadToHeadDTO headToHead = history.against(2);
+        assertEquals(2, headToHead.getPlayed());
+        assertEquals(1, headToHead.getWins());
+        assertEquals(1, headToHead.getDraws());
+        assertEquals(5, headToHead.getGoalsScored());
+        assertEquals(3, headToHead.getGoalsConceded());
+        assertEquals(1L, headToHead.getMatches().get(0).getMatchId());
+        assertTrue(headToHead.getMatches().get(0).isHome());
+        assertEquals(0, history.against(7).getPlayed());
+    }
+
+    private static Match match(Long id, int home, int away, Integer homeScore, Integer awayScore,
+                               String status, int day) {
+        Match match = new Match();
+        match.setId(id);
+        match.setTournamentId(1L);
+        match.setHomeTeamId(home);
+        match.setAwayTeamId(away);
+        match.setHomeTeamScore(homeScore);
+        match.setAwayTeamScore(awayScore);
+        match.setStatus(status);
+        match.setMatchDate(LocalDateTime.of(2026, 8, day, 15, 0));
+        return match;
+    }
+}
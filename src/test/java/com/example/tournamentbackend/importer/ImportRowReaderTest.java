@@ -0,0 +1,47 @@
+package com.example.tournamentbackend.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ImportRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsCsvWithQuotedFields() throws IOException {
+        ImportRowReader reader = reader("name,tournamentId\n\"Inter, Milan\",3\n\n\"Say \"\"hi\"\"\",\n", ImportFormat.CSV);
+
+        ImportRow first = reader.next();
+        assertEquals(1, first.getRowNumber());
+        assertEquals("Inter, Milan", first.get("name"));
+        assertEquals("3", first.get("tournamentId"));
+
+        ImportRow second = reader.next();
+        assertEquals("Say \"hi\"", second.get("name"));
+        assertNull(second.get("tournamentId"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    void reportsInvalidNdjsonLineAndContinues() throws IOException {
+        ImportRowReader reader = reader("{\"matchId\": 1, \"homeTeamScore\": 2}\nnot json\n{\"matchId\": 3}\n", ImportFormat.NDJSON);
+
+        assertEquals("2", reader.next().get("homeTeamScore"));
+        assertThrows(IllegalArgumentException.class, reader::next);
+        assertEquals(2, reader.getRowNumber());
+        assertEquals("3", reader.next().get("matchId"));
+        assertNull(reader.next());
+    }
+
+    private ImportRowReader reader(String content, ImportFormat format) {
+        return new ImportRowReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.tournamentbackend.live;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveChannelTest {
+
+    @Test
+    void coalescesUpdatesToTheSameMatchWithinAFlush() {
+        LiveChannel<Object> channel = new LiveChannel<>("e1", 16);
+        channel.offer(1L, "match", "1-0");
+        channel.offer(2L, "match", "0-0");
+        channel.offer(1L, "match", "2-0");
+
+        List<LiveEvent> events = channel.flush();
+        assertEquals(2, events.size());
+        assertEquals("e1-1", events.get(0).getId());
+        assertEquals("2-0", events.get(0).getData());
+        assertEquals("e1-2", events.get(1).getId());
+        assertTrue(channel.flush().isEmpty());
+    }
+
+    @Test
+    void resumesFromHistoryAndAsksForResetWhenTokenCannotBeServed() {
+        LiveChannel<Object> channel = new LiveChannel<>("e1", 3);
+        for (long match = 1; match <= 5; match++) {
+            channel.offer(match, "match", "update " + match);
+            channel.flush();
+        }
+
+        assertTrue(channel.eventsAfter(null).isEmpty());
+        assertTrue(channel.eventsAfter("e1-5").isEmpty());
+        List<LiveEvent> missed = channel.eventsAfter("e1-3");
+        assertEquals(2, missed.size());
+        assertEquals("e1-4", missed.get(0).getId());
+        assertEquals(3, channel.eventsAfter("e1-2").size());
+
+        assertNull(channel.eventsAfter("e1-1"));
+        assertNull(channel.eventsAfter("e1-9"));
+        assertNull(channel.eventsAfter("e0-4"));
+        assertNull(channel.eventsAfter("garbage"));
+    }
+}
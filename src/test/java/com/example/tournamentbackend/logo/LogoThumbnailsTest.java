@@ -0,0 +1,33 @@
+package com.example.tournamentbackend.logo;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LogoThumbnailsTest {
+
+    @Test
+    void picksSmallestAdequateVariant() {
+        assertNull(LogoThumbnails.variantFor(null));
+        assertEquals(32, LogoThumbnails.variantFor(20));
+        assertEquals(64, LogoThumbnails.variantFor(40));
+        assertEquals(64, LogoThumbnails.variantFor(64));
+        assertEquals(256, LogoThumbnails.variantFor(100));
+        assertNull(LogoThumbnails.variantFor(512));
+        assertEquals("abc_64.png", LogoThumbnails.variantName("abc.jpg", 64));
+    }
+
+    @Test
+    void scalesIntoBoxKeepingAspectRatioWithoutEnlarging() {
+        BufferedImage wide = LogoThumbnails.scale(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), 64);
+        assertEquals(64, wide.getWidth());
+        assertEquals(32, wide.getHeight());
+
+        BufferedImage small = LogoThumbnails.scale(new BufferedImage(20, 10, BufferedImage.TYPE_INT_RGB), 256);
+        assertEquals(20, small.getWidth());
+        assertEquals(10, small.getHeight());
+    }
+}
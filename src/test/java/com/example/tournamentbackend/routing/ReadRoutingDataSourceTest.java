@@ -0,0 +1,88 @@
+package com.example.tournamentbackend.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadRoutingDataSourceTest {
+
+    @Test
+    void replicaReadsUseTheReplicaOnlyWhileItKeepsUp() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (ReadRoutingDataSource dataSource = new ReadRoutingDataSource(stubDataSource("primary", 0),
+                stubDataSource("replica", 200), 1000, 3_600_000, registry)) {
+            awaitLagCheck(registry);
+
+            assertEquals("primary", dataSource.getConnection().toString());
+            assertEquals("replica", replicaRead(dataSource));
+            assertEquals("primary", ReadRouting.onPrimary(() -> replicaRead(dataSource)));
+        }
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (ReadRoutingDataSource dataSource = new ReadRoutingDataSource(stubDataSource("primary", 0),
+                stubDataSource("replica", 5000), 1000, 3_600_000, registry)) {
+            awaitLagCheck(registry);
+
+            assertEquals("primary", replicaRead(dataSource));
+            assertEquals(1.0, registry.get("db.replica.fallbacks").counter().count());
+        }
+    }
+
+    private static String replicaRead(DataSource dataSource) {
+        boolean previous = ReadRouting.startReplicaRead();
+        try {
+            return dataSource.getConnection().toString();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            ReadRouting.endReplicaRead(previous);
+        }
+    }
+
+    private static void awaitLagCheck(SimpleMeterRegistry registry) throws InterruptedException {
+        for (int i = 0; i < 200 && registry.get("db.replica.lag").gauge().value() < 0; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    // Every connection answers the lag query with lagMs
+    private static DataSource stubDataSource(String name, double lagMs) {
+        ResultSet resultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return true;
+                        case "getDouble":
+                            return lagMs;
+                        default:
+                            return null;
+                    }
+                });
+        Statement statement = (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, (proxy, method, args) ->
+                        method.getName().equals("executeQuery") ? resultSet : null);
+        Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "createStatement":
+                            return statement;
+                        case "toString":
+                            return name;
+                        default:
+                            return null;
+                    }
+                });
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> connection);
+    }
+}
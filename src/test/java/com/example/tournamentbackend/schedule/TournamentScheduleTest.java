@@ -0,0 +1,69 @@
+package com.example.tournamentbackend.schedule;
+
+import com.example.tournamentbackend.dto.ScheduleConflictDTO;
+import com.example.tournamentbackend.fixtures.FixtureFormat;
+import com.example.tournamentbackend.fixtures.FixtureGenerator;
+import com.example.tournamentbackend.model.Match;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TournamentScheduleTest {
+
+    private static final LocalDateTime KICK_OFF = LocalDateTime.of(2026, 8, 15, 15, 0);
+
+    @Test
+    void generatedSeasonHasNoClashesUntilAMatchIsMovedOntoAnother() {
+        List<Integer> teamIds = new ArrayList<>();
+        for (int id = 1; id <= 101; id++) {
+            teamIds.add(id);
+        }
+        List<Match> season = new ArrayList<>();
+        FixtureGenerator.generate(1L, teamIds, FixtureFormat.DOUBLE_ROUND_ROBIN, KICK_OFF, 7, match -> {
+            match.setId((long) season.size() + 1);
+            season.add(match);
+        });
+        assertEquals(10100, season.size());
+        assertTrue(new TournamentSchedule(season, 120).conflicts().isEmpty());
+
+        // Every team plays once per matchday, so pulling a match forward a week double-books both teams
+        Match moved = season.get(season.size() - 1);
+        moved.setMatchDate(moved.getMatchDate().minusDays(7).plusMinutes(90));
+        List<ScheduleConflictDTO> conflicts = new TournamentSchedule(season, 120).conflictsInvolving(List.of(moved));
+        assertEquals(2, conflicts.size());
+        assertEquals(moved.getId(), conflicts.get(0).getMatchId());
+    }
+
+    @Test
+    void slotsAreHalfOpenAndByesTakeNoSlot() {
+        Match first = match(1L, 1, 2, KICK_OFF, "scheduled");
+        Match back = match(2L, 3, 1, KICK_OFF.plusMinutes(120), "scheduled");
+        Match bye = match(3L, 2, 2, KICK_OFF, "bye");
+        assertTrue(new TournamentSchedule(List.of(first, back, bye), 120).conflicts().isEmpty());
+
+        Match candidate = match(null, 2, 4, KICK_OFF.plusMinutes(119), "scheduled");
+        List<ScheduleConflictDTO> conflicts = new TournamentSchedule(List.of(first, back, bye, candidate), 120)
+                .conflictsInvolving(List.of(candidate));
+        assertEquals(1, conflicts.size());
+        assertEquals(2, conflicts.get(0).getTeamId());
+        assertNull(conflicts.get(0).getMatchId());
+        assertEquals(1L, conflicts.get(0).getConflictingMatchId());
+    }
+
+    private static Match match(Long id, int home, int away, LocalDateTime date, String status) {
+        Match match = new Match();
+        match.setId(id);
+        match.setTournamentId(1L);
+        match.setHomeTeamId(home);
+        match.setAwayTeamId(away);
+        match.setMatchDate(date);
+        match.setStatus(status);
+        return match;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.cache.TeamCache;
+import com.example.tournamentbackend.dao.impl.MatchDaoImpl;
+import com.example.tournamentbackend.dao.impl.MatchEventDaoImpl;
+import com.example.tournamentbackend.dao.impl.StandingsSnapshotDaoImpl;
+import com.example.tournamentbackend.dao.impl.TeamDaoImpl;
+import com.example.tournamentbackend.dao.impl.TournamentDaoImpl;
+import com.example.tournamentbackend.dto.StandingDTO;
+import com.example.tournamentbackend.dto.TeamDTO;
+import com.example.tournamentbackend.stats.TeamStatsWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Records many results for one team at once, spread over several tournaments so the tournament locks
+// do not line them up, and checks that no increment went missing. Needs a PostgreSQL database:
+//   PLAN_TEST_DB_URL=jdbc:postgresql://localhost:5432/tournament_dtb mvn test -Dtest=ConcurrentResultRecordingTest
+// (PLAN_TEST_DB_USER / PLAN_TEST_DB_PASSWORD default to postgres / empty)
+@EnabledIfEnvironmentVariable(named = "PLAN_TEST_DB_URL", matches = ".+")
+class ConcurrentResultRecordingTest {
+
+    private static final String SCHEMA = "concurrent_result_test";
+    private static final int TOURNAMENTS = 4;
+    private static final int MATCHES = 48;
+    private static final int THREADS = 8;
+
+    // Team 1 meets a different opponent in every match, so each opponent ends with exactly one result
+    private static final String[] SEED = {
+            "INSERT INTO teams (id, name) SELECT g, 'Team ' || g FROM generate_series(1, " + (MATCHES + 1) + ") g",
+            "INSERT INTO tournaments (id, name, start_date, type, status) " +
+                    "SELECT g, 'Tournament ' || g, DATE '2026-08-01', 'league', 'ongoing' " +
+                    "FROM generate_series(1, " + TOURNAMENTS + ") g",
+            "INSERT INTO tournament_teams (tournament_id, team_id) " +
+                    "SELECT g, 1 FROM generate_series(1, " + TOURNAMENTS + ") g " +
+                    "UNION ALL SELECT (g - 2) % " + TOURNAMENTS + " + 1, g FROM generate_series(2, " + (MATCHES + 1) + ") g",
+            "INSERT INTO matches (id, tournament_id, home_team_id, away_team_id, match_date, status, round) " +
+                    "SELECT g, g % " + TOURNAMENTS + " + 1, CASE WHEN g % 2 = 0 THEN 1 ELSE g + 2 END, " +
+                    "CASE WHEN g % 2 = 0 THEN g + 2 ELSE 1 END, TIMESTAMP '2026-08-01 15:00' + g * INTERVAL '1 day', " +
+                    "'scheduled', 'Matchday ' || (g + 1) FROM generate_series(0, " + (MATCHES - 1) + ") g"
+    };
+
+    private static DriverManagerDataSource database;
+    private static MatchServiceImpl matchService;
+    private static TeamServiceImpl teamService;
+    private static StandingsServiceImpl standingsService;
+    private static LiveServiceImpl liveService;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        database = new DriverManagerDataSource(System.getenv("PLAN_TEST_DB_URL"),
+                envOrDefault("PLAN_TEST_DB_USER", "postgres"), envOrDefault("PLAN_TEST_DB_PASSWORD", ""));
+        dropSchema();
+
+        Properties properties = new Properties();
+        properties.setProperty("currentSchema", SCHEMA);
+        database.setConnectionProperties(properties);
+        Flyway.configure().dataSource(database).schemas(SCHEMA).load().migrate();
+
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : SEED) {
+                statement.execute(sql);
+            }
+        }
+
+        // The services as the application wires them, without the Spring proxies: each call is wrapped
+        // in the transaction @Transactional would open
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        TeamDaoImpl teamDao = new TeamDaoImpl(database, new TeamCache(1024, 60, new SimpleMeterRegistry()));
+        MatchDaoImpl matchDao = new MatchDaoImpl(database);
+        TournamentDaoImpl tournamentDao = new TournamentDaoImpl(database);
+        standingsService = new StandingsServiceImpl(matchDao, teamDao, tournamentDao, new MatchEventDaoImpl(database),
+                new StandingsSnapshotDaoImpl(database), transactionTemplate, objectMapper, 100,
+                "head-to-head,goal-difference,goals-scored");
+        TeamStatsWriteBehind statsWriteBehind = new TeamStatsWriteBehind(teamDao, new ResourceVersions(),
+                new SimpleMeterRegistry(), false, 1000);
+        TeamFormServiceImpl teamFormService = new TeamFormServiceImpl(matchDao, teamDao);
+        BracketServiceImpl bracketService = new BracketServiceImpl(matchDao, tournamentDao);
+        teamService = new TeamServiceImpl(teamDao, tournamentDao, matchDao, new MatchEventDaoImpl(database),
+                standingsService, bracketService, new LogoServiceImpl(teamDao, "uploads", 1, 1), statsWriteBehind,
+                teamFormService);
+        liveService = new LiveServiceImpl(tournamentDao, objectMapper, 250, 15, 256, 64, 1, 1_800_000, 5_000);
+        MatchEventServiceImpl matchEventService = new MatchEventServiceImpl(new MatchEventDaoImpl(database),
+                tournamentDao, teamService, standingsService, teamFormService);
+        matchService = new MatchServiceImpl(matchDao, teamDao, tournamentDao, matchEventService, liveService,
+                bracketService, new ScheduleServiceImpl(matchDao, tournamentDao, 120));
+    }
+
+    @AfterAll
+    static void cleanUp() throws SQLException {
+        if (liveService != null) {
+            liveService.shutdown();
+        }
+        if (database != null) {
+            dropSchema();
+        }
+    }
+
+    @Test
+    void concurrentResultsForOneTeamAreAllCounted() throws Exception {
+        int[] expected = new int[6];
+        int[] playedIn = new int[TOURNAMENTS + 1];
+        int[] pointsIn = new int[TOURNAMENTS + 1];
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> submissions = new ArrayList<>(MATCHES);
+        for (int i = 0; i < MATCHES; i++) {
+            long matchId = i;
+            boolean home = i % 2 == 0;
+            // Every third match is a draw, the rest team 1 wins
+            int scored = i % 3 == 0 ? 1 : 2;
+            int conceded = 1;
+            int points = scored > conceded ? 3 : 1;
+            expected[0]++;
+            expected[scored > conceded ? 1 : 2]++;
+            expected[3] += scored;
+            expected[4] += conceded;
+            expected[5] += points;
+            playedIn[i % TOURNAMENTS + 1]++;
+            pointsIn[i % TOURNAMENTS + 1] += points;
+
+            submissions.add(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status -> matchService.recordMatchResult(matchId,
+                        home ? scored : conceded, home ? conceded : scored));
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<>(MATCHES);
+            for (Callable<Void> submission : submissions) {
+                results.add(pool.submit(submission));
+            }
+            start.countDown();
+            // A lost lock ordering shows up here as a deadlock error
+            for (Future<Void> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        TeamDTO team = teamService.getTeamById(1);
+        assertEquals(expected[0], team.getPlayed());
+        assertEquals(expected[1], team.getWins());
+        assertEquals(expected[2], team.getDraws());
+        assertEquals(0, team.getLosses());
+        assertEquals(expected[3], team.getGoalsScored());
+        assertEquals(expected[4], team.getGoalsConceded());
+        assertEquals(expected[3] - expected[4], team.getGoalDifference());
+        assertEquals(expected[5], team.getPoints());
+
+        for (int opponentId = 2; opponentId <= MATCHES + 1; opponentId++) {
+            assertEquals(1, teamService.getTeamById(opponentId).getPlayed(), "Team " + opponentId);
+        }
+
+        for (long tournamentId = 1; tournamentId <= TOURNAMENTS; tournamentId++) {
+            StandingDTO standing = standingOf(standingsService.getStandings(tournamentId), 1);
+            assertEquals(playedIn[(int) tournamentId], standing.getPlayed(), "Tournament " + tournamentId);
+            assertEquals(pointsIn[(int) tournamentId], standing.getPoints(), "Tournament " + tournamentId);
+        }
+    }
+
+    private static StandingDTO standingOf(List<StandingDTO> standings, int teamId) {
+        for (StandingDTO standing : standings) {
+            if (standing.getTeamId() == teamId) {
+                return standing;
+            }
+        }
+        throw new AssertionError("Team " + teamId + " missing from standings");
+    }
+
+    private static void dropSchema() throws SQLException {
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+    }
+
+    private static String envOrDefault(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? fallback : value;
+    }
+}
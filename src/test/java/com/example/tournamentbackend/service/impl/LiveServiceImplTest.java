@@ -0,0 +1,118 @@
+package com.example.tournamentbackend.service.impl;
+
+import com.example.tournamentbackend.dao.TournamentDao;
+import com.example.tournamentbackend.dto.MatchDTO;
+import com.example.tournamentbackend.model.Tournament;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveServiceImplTest {
+
+    @Test
+    void stalledSubscriberIsDisconnectedWithoutHoldingUpTheOthers() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(unblock);
+        RecordingEmitter healthy = new RecordingEmitter();
+        Deque<SseEmitter> emitters = new ArrayDeque<>();
+        emitters.add(stalled);
+        emitters.add(healthy);
+
+        // One writer thread, which the stalled client takes first
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        LiveServiceImpl liveService = new LiveServiceImpl(tournaments(), objectMapper, 10, 3600, 16, 16, 1, 60_000, 100) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return emitters.removeFirst();
+            }
+        };
+        try {
+            liveService.subscribe(1L, null);
+            liveService.subscribe(1L, null);
+            liveService.publishMatch(new MatchDTO(7L, 1L, 1, 2, 1, 0, LocalDateTime.of(2026, 8, 15, 15, 0),
+                    "completed", "Matchday 1", "Home", "Away", null));
+            assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+
+            assertNotNull(healthy.frames.poll(5, TimeUnit.SECONDS), "healthy subscriber got no events");
+
+            // Once the stuck write returns the stalled client is sent away to reconnect
+            unblock.countDown();
+            assertTrue(stalled.completed.await(5, TimeUnit.SECONDS));
+        } finally {
+            unblock.countDown();
+            liveService.shutdown();
+        }
+    }
+
+    private static TournamentDao tournaments() {
+        return (TournamentDao) Proxy.newProxyInstance(TournamentDao.class.getClassLoader(),
+                new Class<?>[]{TournamentDao.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findById":
+                            return Optional.of(new Tournament());
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    // A client whose socket stopped accepting data: every send blocks until released
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch unblock;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private StalledEmitter(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            sending.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Set<DataWithMediaType>> frames = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            frames.add(items);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tournamentbackend.standings;
+
+import com.example.tournamentbackend.dto.StandingDTO;
+import com.example.tournamentbackend.model.Match;
+import com.example.tournamentbackend.model.MatchEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandingsTableTest {
+
+    @Test
+    void ordersByPointsThenHeadToHead() {
+        StandingsTable table = new StandingsTable(List.of(TieBreaker.HEAD_TO_HEAD, TieBreaker.GOAL_DIFFERENCE));
+        table.addTeam(1, "A");
+        table.addTeam(2, "B");
+        table.addTeam(3, "C");
+
+        table.apply(match(1L, 1, 2, 1, 0));
+        table.apply(match(2L, 1, 3, 0, 5));
+        table.apply(match(3L, 2, 3, 1, 0));
+
+        // All three on 3 points with a circular head-to-head, so goal difference decides
+        List<StandingDTO> standings = table.getStandings();
+        assertEquals(List.of(3, 2, 1), standings.stream().map(StandingDTO::getTeamId).toList());
+        assertEquals(1, standings.get(0).getPosition());
+        assertEquals("LW", standings.get(1).getLast5Games());
+    }
+
+    @Test
+    void headToHeadBeatsGoalDifference() {
+        StandingsTable table = new StandingsTable(List.of(TieBreaker.HEAD_TO_HEAD, TieBreaker.GOAL_DIFFERENCE));
+
+        table.apply(match(1L, 1, 2, 1, 0));
+        table.apply(match(2L, 2, 3, 6, 0));
+        table.apply(match(3L, 2, 4, 5, 0));
+        table.apply(match(4L, 1, 4, 1, 0));
+
+        // 1 and 2 tied on 6 points; 1 won their meeting despite the worse goal difference
+        List<StandingDTO> standings = table.getStandings();
+        assertEquals(6, standings.get(0).getPoints());
+        assertEquals(List.of(1, 2, 3, 4), standings.stream().map(StandingDTO::getTeamId).toList());
+    }
+
+    @Test
+    void ignoresAlreadyAppliedMatch() {
+        StandingsTable table = new StandingsTable(List.of(TieBreaker.GOAL_DIFFERENCE));
+
+        table.apply(match(1L, 1, 2, 2, 2));
+        table.apply(match(1L, 1, 2, 3, 2));
+        assertEquals(1, table.getStandings().get(0).getPlayed());
+        assertEquals(1, table.getStandings().get(0).getDraws());
+    }
+
+    @Test
+    void correctionsAndVoidsReplaceTheCountedResult() {
+        StandingsTable table = new StandingsTable(List.of(TieBreaker.GOAL_DIFFERENCE));
+        table.addTeam(1, "A");
+        table.addTeam(2, "B");
+        table.apply(match(1L, 1, 2, 2, 0));
+        table.apply(event(10L, 2L, MatchEvent.RECORDED, 1, 1));
+
+        table.apply(event(12L, 1L, MatchEvent.CORRECTED, 0, 3));
+        // Arrives late and is older than the correction already counted
+        table.apply(event(11L, 1L, MatchEvent.CORRECTED, 5, 0));
+
+        List<StandingDTO> standings = table.getStandings();
+        assertEquals(2, standings.get(0).getTeamId());
+        assertEquals(4, standings.get(0).getPoints());
+        assertEquals("WD", standings.get(0).getLast5Games());
+
+        table.apply(event(13L, 2L, MatchEvent.VOIDED, null, null));
+        StandingsTable restored = new StandingsTable(List.of(TieBreaker.GOAL_DIFFERENCE));
+        restored.addTeam(1, "A");
+        restored.addTeam(2, "B");
+        restored.restore(table.countedResults());
+        assertEquals(table.getStandings(), restored.getStandings());
+        assertEquals(1, restored.getStandings().get(0).getPlayed());
+        assertEquals("L", restored.getStandings().get(1).getLast5Games());
+    }
+
+    @Test
+    void voidingADeletedTeamsResultsDropsItsRow() {
+        // Team 3 is gone from the tournament, so it only comes back through the snapshot
+        StandingsTable table = new StandingsTable(List.of(TieBreaker.GOAL_DIFFERENCE));
+        table.addTeam(1, "A");
+        table.restore(List.of(new CountedResult(5L, 20L, 1, 3, 2, 0)));
+        assertEquals(2, table.getStandings().size());
+
+        table.apply(new MatchEvent(21L, 5L, 1L, MatchEvent.VOIDED, 1, 3, null, null, null));
+        List<StandingDTO> standings = table.getStandings();
+        assertEquals(1, standings.size());
+        assertEquals(1, standings.get(0).getTeamId());
+        assertEquals(0, standings.get(0).getPlayed());
+    }
+
+    private MatchEvent event(Long id, Long matchId, String type, Integer homeScore, Integer awayScore) {
+        return new MatchEvent(id, matchId, 1L, type, 1, 2, homeScore, awayScore, null);
+    }
+
+    private Match match(Long id, int homeTeamId, int awayTeamId, int homeScore, int awayScore) {
+        Match match = new Match();
+        match.setId(id);
+        match.setTournamentId(1L);
+        match.setHomeTeamId(homeTeamId);
+        match.setAwayTeamId(awayTeamId);
+        match.setHomeTeamScore(homeScore);
+        match.setAwayTeamScore(awayScore);
+        match.setStatus("completed");
+        return match;
+    }
+}
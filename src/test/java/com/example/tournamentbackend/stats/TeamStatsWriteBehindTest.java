@@ -0,0 +1,145 @@
+package com.example.tournamentbackend.stats;
+
+import com.example.tournamentbackend.cache.ResourceVersions;
+import com.example.tournamentbackend.dao.TeamDao;
+import com.example.tournamentbackend.model.Team;
+import com.example.tournamentbackend.model.TeamStatsDelta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TeamStatsWriteBehindTest {
+
+    // Stands in for team_stats_pending: rows appear when saved and go when applied
+    private final Map<Long, TeamStatsDelta> pendingTable = new LinkedHashMap<>();
+    private final List<List<Long>> applied = new ArrayList<>();
+    private long nextId = 1;
+    private boolean savedInTransaction;
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void deltasAreRecordedInTheResultTransactionAndReadOnlyOnceCommitted() {
+        TeamStatsWriteBehind writeBehind = writeBehind();
+        try {
+            TransactionSynchronizationManager.initSynchronization();
+            writeBehind.submit(TeamStatsDelta.forMatch(1, 2, 2, 0));
+            assertTrue(savedInTransaction, "deltas must be saved before the result commits");
+            assertEquals(0, readTeam(writeBehind, 1).getPoints());
+
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            assertEquals(3, readTeam(writeBehind, 1).getPoints());
+
+            writeBehind.flush();
+            assertEquals(List.of(List.of(1L, 2L)), applied);
+            assertEquals(0, readTeam(writeBehind, 1).getPoints());
+        } finally {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void rolledBackResultsAreNeitherMergedNorApplied() {
+        TeamStatsWriteBehind writeBehind = writeBehind();
+        try {
+            TransactionSynchronizationManager.initSynchronization();
+            writeBehind.submit(TeamStatsDelta.forMatch(1, 2, 2, 0));
+            // The database drops the rows with the transaction
+            pendingTable.clear();
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertEquals(0, readTeam(writeBehind, 1).getPoints());
+            writeBehind.flush();
+            assertTrue(applied.isEmpty());
+        } finally {
+            writeBehind.shutdown();
+        }
+    }
+
+    @Test
+    void deltasLeftByAnEarlierRunAreMergedAndApplied() {
+        pendingTable.put(41L, TeamStatsDelta.fromResult(1, 1, 1, "D"));
+        pendingTable.put(42L, TeamStatsDelta.fromResult(1, 3, 0, "W"));
+        TeamStatsWriteBehind writeBehind = writeBehind();
+        try {
+            Team team = readTeam(writeBehind, 1);
+            assertEquals(4, team.getPoints());
+            assertEquals("DW", team.getLast5Games());
+
+            writeBehind.flush();
+            assertEquals(List.of(List.of(41L, 42L)), applied);
+        } finally {
+            writeBehind.shutdown();
+        }
+    }
+
+    // The scheduled flush does not fire within a test; flushes are called directly
+    private TeamStatsWriteBehind writeBehind() {
+        return new TeamStatsWriteBehind(teamDao(), new ResourceVersions(), new SimpleMeterRegistry(), true, 3_600_000);
+    }
+
+    private static Team readTeam(TeamStatsWriteBehind writeBehind, int id) {
+        Team team = new Team();
+        team.setId(id);
+        team.setLast5Games("");
+        return writeBehind.readTeam(() -> Optional.of(team)).orElseThrow();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private TeamDao teamDao() {
+        return (TeamDao) Proxy.newProxyInstance(TeamDao.class.getClassLoader(), new Class<?>[]{TeamDao.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "savePendingStats":
+                            savedInTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+                            List<Long> ids = new ArrayList<>();
+                            for (TeamStatsDelta delta : (List<TeamStatsDelta>) args[0]) {
+                                pendingTable.put(nextId, delta);
+                                ids.add(nextId++);
+                            }
+                            return ids;
+                        case "findPendingStats":
+                            return new LinkedHashMap<>(pendingTable);
+                        case "applyPendingStats":
+                            List<Long> applying = (List<Long>) args[0];
+                            applied.add(new ArrayList<>(applying));
+                            applying.forEach(pendingTable::remove);
+                            return null;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return null;
+                    }
+                });
+    }
+}